@@ -138,6 +138,21 @@ public @interface Options {
    */
   String resultSets() default "";
 
+  /**
+   * Returns the 2nd level cache tags (typically table names) that this statement reads or writes.
+   * <p>
+   * Cache entries of a select statement are tagged with these names, and a statement that flushes the cache evicts only
+   * the entries sharing one of its tags, and the untagged entries, instead of clearing the whole cache. This applies to
+   * the built-in cache only: as other cache implementations may be shared with other JVMs, their flushes still clear the
+   * whole cache.
+   * If you specify multiple tag, please separate using comma(',').
+   * </p>
+   *
+   * @return cache tags that separate with comma(',')
+   * @since 3.5.10
+   */
+  String cacheTags() default "";
+
   /**
    * @return A database id that correspond this options
    * @since 3.5.5
@@ -99,6 +99,19 @@ public @interface SelectKey {
    */
   String databaseId() default "";
 
+  /**
+   * Returns the number of keys to fetch at once.
+   * <p>
+   * When positive, the statement is run with a {@code blockSize} parameter and should return up to that many rows, one
+   * per key (e.g. {@code SELECT nextval('seq') FROM generate_series(1, #{blockSize})}). The keys are handed out to the
+   * following inserts, so the statement runs only once per block. Requires {@link #before()}.
+   * </p>
+   *
+   * @return the number of keys to fetch at once, or {@code 0} to run the statement for each insert
+   * @since 3.5.10
+   */
+  int blockSize() default 0;
+
   /**
    * The container annotation for {@link SelectKey}.
    * @author Kazuki Shimizu
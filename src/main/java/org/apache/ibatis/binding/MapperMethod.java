@@ -19,10 +19,15 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.apache.ibatis.annotations.Flush;
 import org.apache.ibatis.annotations.MapKey;
@@ -59,17 +64,17 @@ public class MapperMethod {
     switch (command.getType()) {
       case INSERT: {
         Object param = method.convertArgsToSqlCommandParam(args);
-        result = rowCountResult(sqlSession.insert(command.getName(), param));
+        result = rowCountResult(sqlSession.insert(command.getMappedStatement(), param));
         break;
       }
       case UPDATE: {
         Object param = method.convertArgsToSqlCommandParam(args);
-        result = rowCountResult(sqlSession.update(command.getName(), param));
+        result = rowCountResult(sqlSession.update(command.getMappedStatement(), param));
         break;
       }
       case DELETE: {
         Object param = method.convertArgsToSqlCommandParam(args);
-        result = rowCountResult(sqlSession.delete(command.getName(), param));
+        result = rowCountResult(sqlSession.delete(command.getMappedStatement(), param));
         break;
       }
       case SELECT:
@@ -84,7 +89,7 @@ public class MapperMethod {
           result = executeForCursor(sqlSession, args);
         } else {
           Object param = method.convertArgsToSqlCommandParam(args);
-          result = sqlSession.selectOne(command.getName(), param);
+          result = sqlSession.selectOne(command.getMappedStatement(), param);
           if (method.returnsOptional()
               && (result == null || !method.getReturnType().equals(result.getClass()))) {
             result = Optional.ofNullable(result);
@@ -121,7 +126,7 @@ public class MapperMethod {
   }
 
   private void executeWithResultHandler(SqlSession sqlSession, Object[] args) {
-    MappedStatement ms = sqlSession.getConfiguration().getMappedStatement(command.getName());
+    MappedStatement ms = command.getMappedStatement();
     if (!StatementType.CALLABLE.equals(ms.getStatementType())
         && void.class.equals(ms.getResultMaps().get(0).getType())) {
       throw new BindingException("method " + command.getName()
@@ -129,23 +134,13 @@ public class MapperMethod {
           + " or a resultType attribute in XML so a ResultHandler can be used as a parameter.");
     }
     Object param = method.convertArgsToSqlCommandParam(args);
-    if (method.hasRowBounds()) {
-      RowBounds rowBounds = method.extractRowBounds(args);
-      sqlSession.select(command.getName(), param, rowBounds, method.extractResultHandler(args));
-    } else {
-      sqlSession.select(command.getName(), param, method.extractResultHandler(args));
-    }
+    sqlSession.select(ms, param, extractRowBounds(args), method.extractResultHandler(args));
   }
 
   private <E> Object executeForMany(SqlSession sqlSession, Object[] args) {
     List<E> result;
     Object param = method.convertArgsToSqlCommandParam(args);
-    if (method.hasRowBounds()) {
-      RowBounds rowBounds = method.extractRowBounds(args);
-      result = sqlSession.selectList(command.getName(), param, rowBounds);
-    } else {
-      result = sqlSession.selectList(command.getName(), param);
-    }
+    result = sqlSession.selectList(command.getMappedStatement(), param, extractRowBounds(args));
     // issue #510 Collections & arrays support
     if (!method.getReturnType().isAssignableFrom(result.getClass())) {
       if (method.getReturnType().isArray()) {
@@ -160,15 +155,14 @@ public class MapperMethod {
   private <T> Cursor<T> executeForCursor(SqlSession sqlSession, Object[] args) {
     Cursor<T> result;
     Object param = method.convertArgsToSqlCommandParam(args);
-    if (method.hasRowBounds()) {
-      RowBounds rowBounds = method.extractRowBounds(args);
-      result = sqlSession.selectCursor(command.getName(), param, rowBounds);
-    } else {
-      result = sqlSession.selectCursor(command.getName(), param);
-    }
+    result = sqlSession.selectCursor(command.getMappedStatement(), param, extractRowBounds(args));
     return result;
   }
 
+  private RowBounds extractRowBounds(Object[] args) {
+    return method.hasRowBounds() ? method.extractRowBounds(args) : RowBounds.DEFAULT;
+  }
+
   private <E> Object convertToDeclaredCollection(Configuration config, List<E> list) {
     Object collection = config.getObjectFactory().create(method.getReturnType());
     MetaObject metaObject = config.newMetaObject(collection);
@@ -193,12 +187,7 @@ public class MapperMethod {
   private <K, V> Map<K, V> executeForMap(SqlSession sqlSession, Object[] args) {
     Map<K, V> result;
     Object param = method.convertArgsToSqlCommandParam(args);
-    if (method.hasRowBounds()) {
-      RowBounds rowBounds = method.extractRowBounds(args);
-      result = sqlSession.selectMap(command.getName(), param, method.getMapKey(), rowBounds);
-    } else {
-      result = sqlSession.selectMap(command.getName(), param, method.getMapKey());
-    }
+    result = sqlSession.selectMap(command.getMappedStatement(), param, method.getMapKey(), extractRowBounds(args));
     return result;
   }
 
@@ -216,16 +205,205 @@ public class MapperMethod {
 
   }
 
+  /**
+   * A {@link ParamMap} that reads the parameters of a mapper method from its arguments, through the argument index of
+   * each parameter name computed once for the method. The parameters are only copied into the map when it is modified
+   * or iterated.
+   *
+   * @since 3.5.10
+   */
+  public static class ArrayParamMap<V> extends ParamMap<V> {
+
+    private static final long serialVersionUID = 2812455532171497284L;
+
+    private transient Map<String, Integer> indexes;
+    private transient Object[] args;
+
+    public ArrayParamMap(Map<String, Integer> indexes, Object[] args) {
+      this.indexes = indexes;
+      this.args = args;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+      if (args == null) {
+        return super.get(key);
+      }
+      Integer index = indexes.get(key);
+      if (index == null) {
+        throw new BindingException("Parameter '" + key + "' not found. Available parameters are " + indexes.keySet());
+      }
+      return (V) args[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+      if (args == null) {
+        return super.getOrDefault(key, defaultValue);
+      }
+      Integer index = indexes.get(key);
+      return index == null ? defaultValue : (V) args[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return args == null ? super.containsKey(key) : indexes.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return args == null ? super.size() : indexes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return args == null ? super.isEmpty() : indexes.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+      copyArgs();
+      return super.containsValue(value);
+    }
+
+    @Override
+    public V put(String key, V value) {
+      copyArgs();
+      return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends V> m) {
+      copyArgs();
+      super.putAll(m);
+    }
+
+    @Override
+    public V putIfAbsent(String key, V value) {
+      copyArgs();
+      return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+      copyArgs();
+      return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+      copyArgs();
+      return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, V oldValue, V newValue) {
+      copyArgs();
+      return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(String key, V value) {
+      copyArgs();
+      return super.replace(key, value);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super V, ? extends V> function) {
+      copyArgs();
+      super.replaceAll(function);
+    }
+
+    @Override
+    public V computeIfAbsent(String key, Function<? super String, ? extends V> mappingFunction) {
+      copyArgs();
+      return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+      copyArgs();
+      return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+      copyArgs();
+      return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(String key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+      copyArgs();
+      return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+      copyArgs();
+      super.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+      copyArgs();
+      return super.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+      copyArgs();
+      return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+      copyArgs();
+      return super.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super V> action) {
+      copyArgs();
+      super.forEach(action);
+    }
+
+    @Override
+    public Object clone() {
+      copyArgs();
+      return super.clone();
+    }
+
+    private Object writeReplace() {
+      copyArgs();
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void copyArgs() {
+      if (args != null) {
+        Object[] values = args;
+        args = null;
+        indexes.forEach((key, index) -> super.put(key, (V) values[index]));
+      }
+    }
+
+  }
+
   public static class SqlCommand {
 
     private final String name;
     private final SqlCommandType type;
+    private final MappedStatement mappedStatement;
 
     public SqlCommand(Configuration configuration, Class<?> mapperInterface, Method method) {
       final String methodName = method.getName();
       final Class<?> declaringClass = method.getDeclaringClass();
       MappedStatement ms = resolveMappedStatement(mapperInterface, methodName, declaringClass,
           configuration);
+      mappedStatement = ms;
       if (ms == null) {
         if (method.getAnnotation(Flush.class) != null) {
           name = null;
@@ -251,6 +429,16 @@ public class MapperMethod {
       return type;
     }
 
+    /**
+     * Returns the statement the method is bound to.
+     *
+     * @return the mapped statement, or {@code null} for a flush method
+     * @since 3.5.10
+     */
+    public MappedStatement getMappedStatement() {
+      return mappedStatement;
+    }
+
     private MappedStatement resolveMappedStatement(Class<?> mapperInterface, String methodName,
         Class<?> declaringClass, Configuration configuration) {
       String statementId = mapperInterface.getName() + "." + methodName;
@@ -0,0 +1,61 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The values of a parameter token that stands for a list of parameters.
+ * <p>
+ * When a token <code>#{name}</code> is bound to an instance of this class, it is replaced by one placeholder per value,
+ * each one separated from the previous one by the delimiter, and each placeholder gets the parameter mapping of the
+ * property <code>name[i]</code>. This lets {@code <foreach>} bind a whole collection at once instead of binding and
+ * parsing every item.
+ *
+ * @since 3.5.10
+ */
+public class ExpandedParameters extends AbstractList<Object> {
+
+  private final List<Object> values;
+  private final String delimiter;
+
+  /**
+   * @param values
+   *          the parameter values
+   * @param delimiter
+   *          the sql between two placeholders
+   */
+  public ExpandedParameters(List<Object> values, String delimiter) {
+    this.values = values;
+    this.delimiter = delimiter;
+  }
+
+  public String getDelimiter() {
+    return delimiter;
+  }
+
+  @Override
+  public Object get(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public int size() {
+    return values.size();
+  }
+
+}
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.regex.Pattern;
 
 import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.SqlSource;
@@ -28,6 +29,7 @@ import org.apache.ibatis.reflection.MetaClass;
 import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
 
 /**
  * @author Clinton Begin
@@ -35,6 +37,7 @@ import org.apache.ibatis.type.JdbcType;
 public class SqlSourceBuilder extends BaseBuilder {
 
   private static final String PARAMETER_PROPERTIES = "javaType,jdbcType,mode,numericScale,resultMap,typeHandler,jdbcTypeName";
+  private static final Pattern WHITESPACES = Pattern.compile("[ \\t\\n\\r\\f]+");
 
   public SqlSourceBuilder(Configuration configuration) {
     super(configuration);
@@ -70,11 +73,13 @@ public class SqlSourceBuilder extends BaseBuilder {
 
     private final List<ParameterMapping> parameterMappings = new ArrayList<>();
     private final Class<?> parameterType;
+    private final Map<String, Object> additionalParameters;
     private final MetaObject metaParameters;
 
     public ParameterMappingTokenHandler(Configuration configuration, Class<?> parameterType, Map<String, Object> additionalParameters) {
       super(configuration);
       this.parameterType = parameterType;
+      this.additionalParameters = additionalParameters;
       this.metaParameters = configuration.newMetaObject(additionalParameters);
     }
 
@@ -84,10 +89,44 @@ public class SqlSourceBuilder extends BaseBuilder {
 
     @Override
     public String handleToken(String content) {
+      if (additionalParameters != null && additionalParameters.containsKey(content)) {
+        Object value = additionalParameters.get(content);
+        if (value instanceof ExpandedParameters) {
+          return expandParameters(content, (ExpandedParameters) value);
+        }
+      }
       parameterMappings.add(buildParameterMapping(content));
       return "?";
     }
 
+    private String expandParameters(String property, ExpandedParameters values) {
+      String delimiter = values.getDelimiter();
+      if (configuration.isShrinkWhitespacesInSql()) {
+        delimiter = WHITESPACES.matcher(delimiter).replaceAll(" ");
+      }
+      StringBuilder sql = new StringBuilder(values.size() * (delimiter.length() + 1));
+      Class<?> javaType = null;
+      TypeHandler<?> typeHandler = null;
+      for (int i = 0; i < values.size(); i++) {
+        Object value = values.get(i);
+        Class<?> valueType = value == null ? Object.class : value.getClass();
+        if (valueType != javaType) {
+          javaType = valueType;
+          typeHandler = typeHandlerRegistry.getTypeHandler(javaType, null);
+        }
+        ParameterMapping.Builder builder = new ParameterMapping.Builder(configuration, property + "[" + i + "]", javaType);
+        if (typeHandler != null) {
+          builder.typeHandler(typeHandler);
+        }
+        parameterMappings.add(builder.build());
+        if (i > 0) {
+          sql.append(delimiter);
+        }
+        sql.append('?');
+      }
+      return sql.toString();
+    }
+
     private ParameterMapping buildParameterMapping(String content) {
       Map<String, String> propertiesMap = parseParameterMapping(content);
       String property = propertiesMap.get("property");
@@ -378,7 +378,9 @@ public class MapperAnnotationBuilder {
           statementAnnotation.getDatabaseId(),
           languageDriver,
           // ResultSets
-          options != null ? nullOrEmpty(options.resultSets()) : null);
+          options != null ? nullOrEmpty(options.resultSets()) : null,
+          // CacheTags
+          options != null ? nullOrEmpty(options.cacheTags()) : null);
     });
   }
 
@@ -587,6 +589,14 @@ public class MapperAnnotationBuilder {
     String keyProperty = selectKeyAnnotation.keyProperty();
     String keyColumn = selectKeyAnnotation.keyColumn();
     boolean executeBefore = selectKeyAnnotation.before();
+    int blockSize = selectKeyAnnotation.blockSize();
+    if (blockSize < 0 || (blockSize > 0 && !executeBefore)) {
+      throw new BuilderException("The blockSize of @SelectKey on '" + baseStatementId + "' must be positive and before must be true.");
+    }
+    if (blockSize > 0) {
+      // a block key statement is run with the block size instead of the insert parameter
+      parameterTypeClass = Map.class;
+    }
 
     // defaults
     boolean useCache = false;
@@ -609,7 +619,7 @@ public class MapperAnnotationBuilder {
     id = assistant.applyCurrentNamespace(id, false);
 
     MappedStatement keyStatement = configuration.getMappedStatement(id, false);
-    SelectKeyGenerator answer = new SelectKeyGenerator(keyStatement, executeBefore);
+    SelectKeyGenerator answer = new SelectKeyGenerator(keyStatement, executeBefore, blockSize);
     configuration.addKeyGenerator(id, answer);
     return answer;
   }
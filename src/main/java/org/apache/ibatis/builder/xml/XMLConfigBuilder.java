@@ -15,20 +15,33 @@
  */
 package org.apache.ibatis.builder.xml;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
 import org.apache.ibatis.builder.BaseBuilder;
 import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.CacheRefResolver;
+import org.apache.ibatis.builder.IncompleteElementException;
+import org.apache.ibatis.builder.ResultMapResolver;
 import org.apache.ibatis.datasource.DataSourceFactory;
 import org.apache.ibatis.executor.ErrorContext;
 import org.apache.ibatis.executor.loader.ProxyFactory;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.io.VFS;
 import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
 import org.apache.ibatis.mapping.DatabaseIdProvider;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.parsing.XNode;
@@ -57,6 +70,7 @@ public class XMLConfigBuilder extends BaseBuilder {
   private final XPathParser parser;
   private String environment;
   private final ReflectorFactory localReflectorFactory = new DefaultReflectorFactory();
+  private XMLMapperSnapshot mapperSnapshot;
 
   public XMLConfigBuilder(Reader reader) {
     this(reader, null, null);
@@ -271,6 +285,14 @@ public class XMLConfigBuilder extends BaseBuilder {
     configuration.setShrinkWhitespacesInSql(booleanValueOf(props.getProperty("shrinkWhitespacesInSql"), false));
     configuration.setDefaultSqlProviderType(resolveClass(props.getProperty("defaultSqlProviderType")));
     configuration.setNullableOnForEach(booleanValueOf(props.getProperty("nullableOnForEach"), false));
+    configuration.setBucketLimitOnForEach(integerValueOf(props.getProperty("bucketLimitOnForEach"), 1000));
+    configuration.setParallelMapperParsing(booleanValueOf(props.getProperty("parallelMapperParsing"), false));
+    configuration.setMapperSnapshot(props.getProperty("mapperSnapshot"));
+    configuration.setLazyStatementBuilding(booleanValueOf(props.getProperty("lazyStatementBuilding"), false));
+    configuration.setLogSamplingInterval(integerValueOf(props.getProperty("logSamplingInterval"), 1));
+    configuration.setLogSlowStatementThreshold(integerValueOf(props.getProperty("logSlowStatementThreshold"), 0));
+    configuration.setFreezeOnBuild(booleanValueOf(props.getProperty("freezeOnBuild"), false));
+    configuration.setParallelResultSetMapping(booleanValueOf(props.getProperty("parallelResultSetMapping"), false));
   }
 
   private void environmentsElement(XNode context) throws Exception {
@@ -364,7 +386,11 @@ public class XMLConfigBuilder extends BaseBuilder {
 
   private void mapperElement(XNode parent) throws Exception {
     if (parent != null) {
-      for (XNode child : parent.getChildren()) {
+      mapperSnapshot = readMapperSnapshot();
+      List<XNode> children = parent.getChildren();
+      List<CompletableFuture<XPathParser>> documents = configuration.isParallelMapperParsing() ? parseMapperDocuments(children) : null;
+      for (int i = 0; i < children.size(); i++) {
+        XNode child = children.get(i);
         if ("package".equals(child.getName())) {
           String mapperPackage = child.getStringAttribute("name");
           configuration.addMappers(mapperPackage);
@@ -374,15 +400,23 @@ public class XMLConfigBuilder extends BaseBuilder {
           String mapperClass = child.getStringAttribute("class");
           if (resource != null && url == null && mapperClass == null) {
             ErrorContext.instance().resource(resource);
-            try(InputStream inputStream = Resources.getResourceAsStream(resource)) {
-              XMLMapperBuilder mapperParser = new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments());
-              mapperParser.parse();
+            if (documents != null) {
+              parseMapperDocument(documents.get(i), resource);
+            } else {
+              try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+                XMLMapperBuilder mapperParser = new XMLMapperBuilder(createMapperParser(inputStream, resource), configuration, resource, configuration.getSqlFragments());
+                mapperParser.parse();
+              }
             }
           } else if (resource == null && url != null && mapperClass == null) {
             ErrorContext.instance().resource(url);
-            try(InputStream inputStream = Resources.getUrlAsStream(url)){
-              XMLMapperBuilder mapperParser = new XMLMapperBuilder(inputStream, configuration, url, configuration.getSqlFragments());
-              mapperParser.parse();
+            if (documents != null) {
+              parseMapperDocument(documents.get(i), url);
+            } else {
+              try (InputStream inputStream = Resources.getUrlAsStream(url)) {
+                XMLMapperBuilder mapperParser = new XMLMapperBuilder(createMapperParser(inputStream, url), configuration, url, configuration.getSqlFragments());
+                mapperParser.parse();
+              }
             }
           } else if (resource == null && url == null && mapperClass != null) {
             Class<?> mapperInterface = Resources.classForName(mapperClass);
@@ -392,7 +426,119 @@ public class XMLConfigBuilder extends BaseBuilder {
           }
         }
       }
+      if (documents != null) {
+        resolveIncompleteElements();
+      }
+    }
+  }
+
+  /**
+   * Reads, validates and builds the DOM of every mapper xml on the common fork-join pool.
+   * The streams are opened on the calling thread so that they are looked up with its context class loader.
+   */
+  private List<CompletableFuture<XPathParser>> parseMapperDocuments(List<XNode> children) throws IOException {
+    List<CompletableFuture<XPathParser>> documents = new ArrayList<>(children.size());
+    for (XNode child : children) {
+      String resource = child.getStringAttribute("resource");
+      String url = child.getStringAttribute("url");
+      String mapperClass = child.getStringAttribute("class");
+      InputStream inputStream = null;
+      if (!"package".equals(child.getName()) && mapperClass == null) {
+        if (resource != null && url == null) {
+          inputStream = Resources.getResourceAsStream(resource);
+        } else if (resource == null && url != null) {
+          inputStream = Resources.getUrlAsStream(url);
+        }
+      }
+      if (inputStream == null) {
+        documents.add(null);
+      } else {
+        InputStream mapperInputStream = inputStream;
+        String location = resource != null ? resource : url;
+        documents.add(CompletableFuture.supplyAsync(() -> {
+          try (InputStream in = mapperInputStream) {
+            return createMapperParser(in, location);
+          } catch (IOException e) {
+            throw new BuilderException("Error reading mapper xml. Cause: " + e, e);
+          }
+        }));
+      }
+    }
+    return documents;
+  }
+
+  private XMLMapperSnapshot readMapperSnapshot() throws IOException {
+    String snapshot = configuration.getMapperSnapshot();
+    if (snapshot == null) {
+      return null;
+    }
+    InputStream inputStream;
+    try {
+      inputStream = Resources.getResourceAsStream(snapshot);
+    } catch (IOException e) {
+      // the log is looked up here as the logImpl setting has been applied by now
+      LogFactory.getLog(XMLConfigBuilder.class)
+          .warn("The mapper snapshot '" + snapshot + "' was not found, the mappers are parsed from their sources.");
+      return null;
+    }
+    try (InputStream in = inputStream) {
+      return XMLMapperSnapshot.read(in);
+    }
+  }
+
+  private XPathParser createMapperParser(InputStream inputStream, String location) throws IOException {
+    if (mapperSnapshot != null) {
+      byte[] source = XMLMapperSnapshot.readFully(inputStream);
+      XPathParser parser = mapperSnapshot.getParser(location, source, configuration.getVariables());
+      if (parser != null) {
+        return parser;
+      }
+      inputStream = new ByteArrayInputStream(source);
+    }
+    return new XPathParser(inputStream, true, configuration.getVariables(), new XMLMapperEntityResolver());
+  }
+
+  private void parseMapperDocument(CompletableFuture<XPathParser> document, String location) {
+    XPathParser mapperDocument;
+    try {
+      mapperDocument = document.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    new XMLMapperBuilder(mapperDocument, configuration, location, configuration.getSqlFragments()).parseMapper();
+  }
+
+  /**
+   * Resolves the elements that referred to ones declared in a later mapper, repeating until no more progress is made.
+   * The remaining ones are resolved (or reported) on first use as they are in sequential parsing.
+   */
+  private void resolveIncompleteElements() {
+    boolean resolved;
+    do {
+      resolved = resolveIncompleteElements(configuration.getIncompleteResultMaps(), ResultMapResolver::resolve);
+      resolved |= resolveIncompleteElements(configuration.getIncompleteCacheRefs(), CacheRefResolver::resolveCacheRef);
+      resolved |= resolveIncompleteElements(configuration.getIncompleteStatements(), XMLStatementBuilder::parseStatementNode);
+    } while (resolved);
+  }
+
+  private <T> boolean resolveIncompleteElements(Collection<T> incompleteElements, Consumer<T> resolver) {
+    boolean resolved = false;
+    synchronized (incompleteElements) {
+      Iterator<T> iter = incompleteElements.iterator();
+      while (iter.hasNext()) {
+        try {
+          resolver.accept(iter.next());
+          iter.remove();
+          resolved = true;
+        } catch (IncompleteElementException e) {
+          // Element is still missing a resource...
+        }
+      }
     }
+    return resolved;
   }
 
   private boolean isSpecifiedEnvironment(String id) {
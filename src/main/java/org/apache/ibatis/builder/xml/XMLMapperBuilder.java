@@ -82,7 +82,7 @@ public class XMLMapperBuilder extends BaseBuilder {
         configuration, resource, sqlFragments);
   }
 
-  private XMLMapperBuilder(XPathParser parser, Configuration configuration, String resource, Map<String, XNode> sqlFragments) {
+  XMLMapperBuilder(XPathParser parser, Configuration configuration, String resource, Map<String, XNode> sqlFragments) {
     super(configuration);
     this.builderAssistant = new MapperBuilderAssistant(configuration, resource);
     this.parser = parser;
@@ -91,15 +91,22 @@ public class XMLMapperBuilder extends BaseBuilder {
   }
 
   public void parse() {
+    parseMapper();
+    parsePendingResultMaps();
+    parsePendingCacheRefs();
+    parsePendingStatements();
+  }
+
+  /**
+   * Parses the mapper without retrying the elements that could not be resolved so far.
+   * The caller is responsible for resolving them once all mappers have been parsed.
+   */
+  void parseMapper() {
     if (!configuration.isResourceLoaded(resource)) {
       configurationElement(parser.evalNode("/mapper"));
       configuration.addLoadedResource(resource);
       bindMapperForNamespace();
     }
-
-    parsePendingResultMaps();
-    parsePendingCacheRefs();
-    parsePendingStatements();
   }
 
   public XNode getSqlFragment(String refid) {
@@ -134,6 +141,9 @@ public class XMLMapperBuilder extends BaseBuilder {
   private void buildStatementFromContext(List<XNode> list, String requiredDatabaseId) {
     for (XNode context : list) {
       final XMLStatementBuilder statementParser = new XMLStatementBuilder(configuration, builderAssistant, context, requiredDatabaseId);
+      if (configuration.isLazyStatementBuilding() && statementParser.deferStatementNode()) {
+        continue;
+      }
       try {
         statementParser.parseStatementNode();
       } catch (IncompleteElementException e) {
@@ -284,7 +294,9 @@ public class XMLMapperBuilder extends BaseBuilder {
             resultMapNode.getValueBasedIdentifier());
     String extend = resultMapNode.getStringAttribute("extends");
     Boolean autoMapping = resultMapNode.getBooleanAttribute("autoMapping");
-    ResultMapResolver resultMapResolver = new ResultMapResolver(builderAssistant, id, typeClass, extend, discriminator, resultMappings, autoMapping);
+    boolean resultOrdered = resultMapNode.getBooleanAttribute("resultOrdered", false);
+    ResultMapResolver resultMapResolver = new ResultMapResolver(builderAssistant, id, typeClass, extend, discriminator, resultMappings, autoMapping,
+        resultOrdered);
     try {
       return resultMapResolver.resolve();
     } catch (IncompleteElementException e) {
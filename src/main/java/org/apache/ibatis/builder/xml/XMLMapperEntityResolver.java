@@ -15,9 +15,12 @@
  */
 package org.apache.ibatis.builder.xml;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.ibatis.io.Resources;
 import org.xml.sax.EntityResolver;
@@ -40,6 +43,11 @@ public class XMLMapperEntityResolver implements EntityResolver {
   private static final String MYBATIS_CONFIG_DTD = "org/apache/ibatis/builder/xml/mybatis-3-config.dtd";
   private static final String MYBATIS_MAPPER_DTD = "org/apache/ibatis/builder/xml/mybatis-3-mapper.dtd";
 
+  /*
+   * The DTDs are read once, instead of once per parsed document.
+   */
+  private static final Map<String, byte[]> DTD_CACHE = new ConcurrentHashMap<>();
+
   /**
    * Converts a public DTD into a local one.
    *
@@ -72,16 +80,23 @@ public class XMLMapperEntityResolver implements EntityResolver {
   private InputSource getInputSource(String path, String publicId, String systemId) {
     InputSource source = null;
     if (path != null) {
-      try {
-        InputStream in = Resources.getResourceAsStream(path);
-        source = new InputSource(in);
+      byte[] dtd = DTD_CACHE.computeIfAbsent(path, XMLMapperEntityResolver::readDtd);
+      if (dtd != null) {
+        source = new InputSource(new ByteArrayInputStream(dtd));
         source.setPublicId(publicId);
         source.setSystemId(systemId);
-      } catch (IOException e) {
-        // ignore, null is ok
       }
     }
     return source;
   }
 
+  private static byte[] readDtd(String path) {
+    try (InputStream in = Resources.getResourceAsStream(path)) {
+      return XMLMapperSnapshot.readFully(in);
+    } catch (IOException e) {
+      // ignore, null is ok
+      return null;
+    }
+  }
+
 }
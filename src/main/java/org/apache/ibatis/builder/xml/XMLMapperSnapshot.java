@@ -0,0 +1,263 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.parsing.XPathParser;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * A compact binary snapshot of already validated mapper xml documents.
+ * <p>
+ * The snapshot is created at build time (see {@link #main(String[])}) and holds, for each mapper, the fingerprint of
+ * its source and its element tree. At startup a mapper whose source still matches the fingerprint is rebuilt from the
+ * snapshot, which skips the xml parsing and the DTD validation. A mapper that has changed, or that is not in the
+ * snapshot, is parsed from its source as usual.
+ *
+ * @since 3.5.10
+ */
+public class XMLMapperSnapshot {
+
+  private static final int MAGIC = 0x4d425353;
+  private static final int VERSION = 1;
+
+  private final Map<String, Entry> entries;
+
+  private XMLMapperSnapshot(Map<String, Entry> entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Creates a snapshot file of the mapper xml resources found in the classpath.
+   *
+   * @param args
+   *          the output file followed by the mapper xml resources
+   * @throws IOException
+   *           if a resource cannot be read or the output cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException("Usage: XMLMapperSnapshot <output file> <mapper resource>...");
+    }
+    String[] resources = new String[args.length - 1];
+    System.arraycopy(args, 1, resources, 0, resources.length);
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(args[0]))) {
+      write(out, resources);
+    }
+  }
+
+  /**
+   * Parses and validates the mapper xml resources and writes their snapshot.
+   *
+   * @param out
+   *          the output stream
+   * @param resources
+   *          the mapper xml resources
+   * @throws IOException
+   *           if a resource cannot be read or the snapshot cannot be written
+   */
+  public static void write(OutputStream out, String... resources) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(resources.length);
+    for (String resource : resources) {
+      byte[] source;
+      try (InputStream in = Resources.getResourceAsStream(resource)) {
+        source = readFully(in);
+      }
+      XPathParser parser = new XPathParser(new ByteArrayInputStream(source), true, null, new XMLMapperEntityResolver());
+      ByteArrayOutputStream tree = new ByteArrayOutputStream();
+      writeElement(new DataOutputStream(tree), parser.evalNode("/mapper").getNode());
+      data.writeUTF(resource);
+      data.writeLong(fingerprint(source));
+      data.writeInt(tree.size());
+      tree.writeTo(data);
+    }
+    data.flush();
+  }
+
+  /**
+   * Reads a snapshot.
+   *
+   * @param in
+   *          the input stream
+   * @return the snapshot
+   * @throws IOException
+   *           if the snapshot cannot be read
+   */
+  public static XMLMapperSnapshot read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+      throw new BuilderException("Unsupported mapper snapshot format.");
+    }
+    int size = data.readInt();
+    Map<String, Entry> entries = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      String location = data.readUTF();
+      long fingerprint = data.readLong();
+      byte[] tree = new byte[data.readInt()];
+      data.readFully(tree);
+      entries.put(location, new Entry(fingerprint, tree));
+    }
+    return new XMLMapperSnapshot(entries);
+  }
+
+  /**
+   * Returns a parser on the snapshot of a mapper.
+   *
+   * @param location
+   *          the resource or url of the mapper
+   * @param source
+   *          the current content of the mapper
+   * @param variables
+   *          the configuration variables
+   * @return a parser on the snapshot, or {@code null} if the mapper is not in the snapshot or has changed since
+   */
+  public XPathParser getParser(String location, byte[] source, Properties variables) {
+    Entry entry = entries.get(location);
+    if (entry == null || entry.fingerprint != fingerprint(source)) {
+      return null;
+    }
+    try {
+      Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+      document.appendChild(readElement(new DataInputStream(new ByteArrayInputStream(entry.tree)), document));
+      return new XPathParser(document, false, variables);
+    } catch (Exception e) {
+      throw new BuilderException("Error reading the mapper snapshot of '" + location + "'. Cause: " + e, e);
+    }
+  }
+
+  static byte[] readFully(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int n;
+    while ((n = in.read(buffer)) != -1) {
+      out.write(buffer, 0, n);
+    }
+    return out.toByteArray();
+  }
+
+  private static long fingerprint(byte[] source) {
+    CRC32 crc = new CRC32();
+    crc.update(source, 0, source.length);
+    return crc.getValue() ^ ((long) source.length << 32);
+  }
+
+  private static void writeElement(DataOutputStream out, Node element) throws IOException {
+    writeString(out, element.getNodeName());
+    NamedNodeMap attributes = element.getAttributes();
+    out.writeInt(attributes.getLength());
+    for (int i = 0; i < attributes.getLength(); i++) {
+      Node attribute = attributes.item(i);
+      writeString(out, attribute.getNodeName());
+      writeString(out, attribute.getNodeValue());
+    }
+    NodeList children = element.getChildNodes();
+    int count = 0;
+    for (int i = 0; i < children.getLength(); i++) {
+      if (isSnapshotNode(children.item(i))) {
+        count++;
+      }
+    }
+    out.writeInt(count);
+    for (int i = 0; i < children.getLength(); i++) {
+      Node child = children.item(i);
+      if (!isSnapshotNode(child)) {
+        continue;
+      }
+      out.writeByte(child.getNodeType());
+      if (child.getNodeType() == Node.ELEMENT_NODE) {
+        writeElement(out, child);
+      } else {
+        writeString(out, child.getNodeValue());
+      }
+    }
+  }
+
+  private static boolean isSnapshotNode(Node node) {
+    short type = node.getNodeType();
+    return type == Node.ELEMENT_NODE || type == Node.TEXT_NODE || type == Node.CDATA_SECTION_NODE;
+  }
+
+  private static Element readElement(DataInputStream in, Document document) throws IOException {
+    Element element = document.createElement(readString(in));
+    int attributes = in.readInt();
+    for (int i = 0; i < attributes; i++) {
+      Attr attribute = document.createAttribute(readString(in));
+      attribute.setValue(readString(in));
+      element.setAttributeNode(attribute);
+    }
+    int children = in.readInt();
+    for (int i = 0; i < children; i++) {
+      byte type = in.readByte();
+      if (type == Node.ELEMENT_NODE) {
+        element.appendChild(readElement(in, document));
+      } else if (type == Node.CDATA_SECTION_NODE) {
+        element.appendChild(document.createCDATASection(readString(in)));
+      } else {
+        element.appendChild(document.createTextNode(readString(in)));
+      }
+    }
+    return element;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static class Entry {
+    private final long fingerprint;
+    private final byte[] tree;
+
+    Entry(long fingerprint, byte[] tree) {
+      this.fingerprint = fingerprint;
+      this.tree = tree;
+    }
+  }
+
+}
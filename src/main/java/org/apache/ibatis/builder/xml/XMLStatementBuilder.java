@@ -17,8 +17,10 @@ package org.apache.ibatis.builder.xml;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.apache.ibatis.builder.BaseBuilder;
+import org.apache.ibatis.builder.BuilderException;
 import org.apache.ibatis.builder.MapperBuilderAssistant;
 import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
 import org.apache.ibatis.executor.keygen.KeyGenerator;
@@ -53,6 +55,24 @@ public class XMLStatementBuilder extends BaseBuilder {
     this.requiredDatabaseId = databaseId;
   }
 
+  /**
+   * Registers the statement to be built on its first use. Statements with a {@code <selectKey>} or a custom
+   * {@code lang} are not deferred, as they register a key generator or a language driver in the configuration.
+   *
+   * @return {@code false} if the statement has to be parsed now
+   */
+  boolean deferStatementNode() {
+    if (context.evalNode("selectKey") != null || context.getStringAttribute("lang") != null) {
+      return false;
+    }
+    String id = context.getStringAttribute("id");
+    String databaseId = context.getStringAttribute("databaseId");
+    if (databaseIdMatchesCurrent(id, databaseId, this.requiredDatabaseId)) {
+      configuration.addLazyStatement(builderAssistant.applyCurrentNamespace(id, false), this);
+    }
+    return true;
+  }
+
   public void parseStatementNode() {
     String id = context.getStringAttribute("id");
     String databaseId = context.getStringAttribute("databaseId");
@@ -109,11 +129,12 @@ public class XMLStatementBuilder extends BaseBuilder {
     String keyProperty = context.getStringAttribute("keyProperty");
     String keyColumn = context.getStringAttribute("keyColumn");
     String resultSets = context.getStringAttribute("resultSets");
+    String cacheTags = context.getStringAttribute("cacheTags");
 
     builderAssistant.addMappedStatement(id, sqlSource, statementType, sqlCommandType,
         fetchSize, timeout, parameterMap, parameterTypeClass, resultMap, resultTypeClass,
         resultSetTypeEnum, flushCache, useCache, resultOrdered,
-        keyGenerator, keyProperty, keyColumn, databaseId, langDriver, resultSets);
+        keyGenerator, keyProperty, keyColumn, databaseId, langDriver, resultSets, cacheTags);
   }
 
   private void processSelectKeyNodes(String id, Class<?> parameterTypeClass, LanguageDriver langDriver) {
@@ -142,6 +163,14 @@ public class XMLStatementBuilder extends BaseBuilder {
     String keyProperty = nodeToHandle.getStringAttribute("keyProperty");
     String keyColumn = nodeToHandle.getStringAttribute("keyColumn");
     boolean executeBefore = "BEFORE".equals(nodeToHandle.getStringAttribute("order", "AFTER"));
+    int blockSize = nodeToHandle.getIntAttribute("blockSize", 0);
+    if (blockSize < 0 || (blockSize > 0 && !executeBefore)) {
+      throw new BuilderException("The blockSize of selectKey '" + id + "' must be positive and its order BEFORE.");
+    }
+    if (blockSize > 0) {
+      // a block key statement is run with the block size instead of the insert parameter
+      parameterTypeClass = Map.class;
+    }
 
     // defaults
     boolean useCache = false;
@@ -165,7 +194,7 @@ public class XMLStatementBuilder extends BaseBuilder {
     id = builderAssistant.applyCurrentNamespace(id, false);
 
     MappedStatement keyStatement = configuration.getMappedStatement(id, false);
-    configuration.addKeyGenerator(id, new SelectKeyGenerator(keyStatement, executeBefore));
+    configuration.addKeyGenerator(id, new SelectKeyGenerator(keyStatement, executeBefore, blockSize));
   }
 
   private void removeSelectKeyNodes(List<XNode> selectKeyNodes) {
@@ -182,6 +211,11 @@ public class XMLStatementBuilder extends BaseBuilder {
       return false;
     }
     id = builderAssistant.applyCurrentNamespace(id, false);
+    XMLStatementBuilder lazyStatement = this.configuration.getLazyStatement(id);
+    if (lazyStatement != null) {
+      // check the previous one without building it
+      return lazyStatement.context.getStringAttribute("databaseId") == null;
+    }
     if (!this.configuration.hasStatement(id, false)) {
       return true;
     }
@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.ibatis.util.MapUtil;
+
+/**
+ * The versions of the cache tags of a 2nd level cache.
+ * <p>
+ * A tagged cache entry holds the versions of its tags at the time it was stored and is stale once any of them has
+ * changed. Untagged entries depend on every tag, through a version that changes whenever any tag is invalidated. The
+ * versions are kept apart from the cache itself, so they neither take cache slots nor get evicted.
+ *
+ * @since 3.5.10
+ */
+public class CacheTagVersions {
+
+  // a random origin keeps entries stored by another instance (e.g. in a persistent cache) from matching by chance
+  private final long origin = ThreadLocalRandom.current().nextLong();
+  private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+  private final AtomicLong untaggedVersion = new AtomicLong(origin);
+
+  /**
+   * Returns the current version of a tag.
+   *
+   * @param tag
+   *          the tag
+   * @return the version
+   */
+  public long getVersion(String tag) {
+    AtomicLong version = versions.get(tag);
+    return version == null ? origin : version.get();
+  }
+
+  /**
+   * Returns the current version the untagged entries depend on.
+   *
+   * @return the version
+   */
+  public long getUntaggedVersion() {
+    return untaggedVersion.get();
+  }
+
+  /**
+   * Returns whether no tag has been invalidated yet, in which case untagged entries need no version.
+   *
+   * @return {@code true} if no tag has been invalidated
+   */
+  public boolean isPristine() {
+    return untaggedVersion.get() == origin;
+  }
+
+  /**
+   * Invalidates tags, which makes stale the entries depending on them and all the untagged entries.
+   *
+   * @param tags
+   *          the tags
+   */
+  public void invalidate(Collection<String> tags) {
+    for (String tag : tags) {
+      MapUtil.computeIfAbsent(versions, tag, k -> new AtomicLong(origin)).incrementAndGet();
+    }
+    untaggedVersion.incrementAndGet();
+  }
+
+}
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.ibatis.cache.decorators.TransactionalCache;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.util.MapUtil;
 
 /**
@@ -27,11 +28,31 @@ import org.apache.ibatis.util.MapUtil;
 public class TransactionalCacheManager {
 
   private final Map<Cache, TransactionalCache> transactionalCaches = new HashMap<>();
+  private final Configuration configuration;
+
+  public TransactionalCacheManager() {
+    this(null);
+  }
+
+  /**
+   * Creates a manager whose caches share the tag versions held by the configuration.
+   *
+   * @param configuration
+   *          the configuration, or {@code null} to clear the whole cache when tags are invalidated
+   * @since 3.5.10
+   */
+  public TransactionalCacheManager(Configuration configuration) {
+    this.configuration = configuration;
+  }
 
   public void clear(Cache cache) {
     getTransactionalCache(cache).clear();
   }
 
+  public void invalidate(Cache cache, String[] tags) {
+    getTransactionalCache(cache).invalidate(tags);
+  }
+
   public Object getObject(Cache cache, CacheKey key) {
     return getTransactionalCache(cache).getObject(key);
   }
@@ -40,6 +61,10 @@ public class TransactionalCacheManager {
     getTransactionalCache(cache).putObject(key, value);
   }
 
+  public void putObject(Cache cache, CacheKey key, Object value, String[] tags) {
+    getTransactionalCache(cache).putObject(key, value, tags);
+  }
+
   public void commit() {
     for (TransactionalCache txCache : transactionalCaches.values()) {
       txCache.commit();
@@ -53,7 +78,8 @@ public class TransactionalCacheManager {
   }
 
   private TransactionalCache getTransactionalCache(Cache cache) {
-    return MapUtil.computeIfAbsent(transactionalCaches, cache, TransactionalCache::new);
+    return MapUtil.computeIfAbsent(transactionalCaches, cache, k -> configuration == null ? new TransactionalCache(k)
+        : new TransactionalCache(k, configuration.getCacheTagVersions(k.getId())));
   }
 
 }
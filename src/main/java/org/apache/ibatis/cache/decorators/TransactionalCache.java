@@ -15,12 +15,17 @@
  */
 package org.apache.ibatis.cache.decorators;
 
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheTagVersions;
 import org.apache.ibatis.logging.Log;
 import org.apache.ibatis.logging.LogFactory;
 
@@ -31,6 +36,11 @@ import org.apache.ibatis.logging.LogFactory;
  * Entries are sent to the cache when commit is called or discarded if the Session is rolled back.
  * Blocking cache support has been added. Therefore any get() that returns a cache miss
  * will be followed by a put() so any lock associated with the key can be released.
+ * <p>
+ * Entries may be tagged (typically with the names of the tables a statement reads). A tagged entry is stored together
+ * with the version of each of its tags, see {@link CacheTagVersions}. Invalidating a tag just changes its version on
+ * commit, so the entries that depend on it, and the untagged ones, become stale while the rest of the cache survives.
+ * Without tag versions, e.g. for a cache shared with other JVMs, invalidating tags clears the whole cache.
  *
  * @author Clinton Begin
  * @author Eduardo Macarron
@@ -40,15 +50,35 @@ public class TransactionalCache implements Cache {
   private static final Log log = LogFactory.getLog(TransactionalCache.class);
 
   private final Cache delegate;
+  private final CacheTagVersions tagVersions;
   private boolean clearOnCommit;
   private final Map<Object, Object> entriesToAddOnCommit;
   private final Set<Object> entriesMissedInCache;
+  private final Map<Object, TaggedValue> taggedEntriesToAddOnCommit;
+  private final Set<String> tagsToInvalidateOnCommit;
 
   public TransactionalCache(Cache delegate) {
+    this(delegate, null);
+  }
+
+  /**
+   * Creates a transactional buffer whose tagged entries depend on the given tag versions.
+   *
+   * @param delegate
+   *          the 2nd level cache
+   * @param tagVersions
+   *          the tag versions of the cache, shared by every buffer of the cache; when {@code null} entries are stored
+   *          untagged and invalidating tags clears the whole cache
+   * @since 3.5.10
+   */
+  public TransactionalCache(Cache delegate, CacheTagVersions tagVersions) {
     this.delegate = delegate;
+    this.tagVersions = tagVersions;
     this.clearOnCommit = false;
     this.entriesToAddOnCommit = new HashMap<>();
     this.entriesMissedInCache = new HashSet<>();
+    this.taggedEntriesToAddOnCommit = new HashMap<>();
+    this.tagsToInvalidateOnCommit = new HashSet<>();
   }
 
   @Override
@@ -71,14 +101,52 @@ public class TransactionalCache implements Cache {
     // issue #146
     if (clearOnCommit) {
       return null;
-    } else {
-      return object;
     }
+    if (object instanceof TaggedValue) {
+      TaggedValue taggedValue = (TaggedValue) object;
+      if (tagVersions == null || !isUpToDate(taggedValue)) {
+        // a buffer without tag versions cannot tell whether an entry stored by a tag aware one is still valid
+        return null;
+      }
+      return taggedValue.value;
+    }
+    if (object != null && (!tagsToInvalidateOnCommit.isEmpty() || !isPristine())) {
+      // stored untagged before any tag was invalidated
+      return null;
+    }
+    return object;
   }
 
   @Override
   public void putObject(Object key, Object object) {
+    putObject(key, object, null);
+  }
+
+  /**
+   * Adds an entry that depends on the given tags.
+   *
+   * @param key
+   *          the key
+   * @param object
+   *          the value
+   * @param tags
+   *          the tags this entry depends on; when {@code null} or empty the entry is added untagged
+   */
+  public void putObject(Object key, Object object, String[] tags) {
+    taggedEntriesToAddOnCommit.remove(key);
+    boolean untagged = tags == null || tags.length == 0 || tagVersions == null;
+    if (untagged ? !tagsToInvalidateOnCommit.isEmpty() : dependsOnInvalidatedTag(tags)) {
+      // the versions read now would already be stale after the commit
+      entriesToAddOnCommit.remove(key);
+      return;
+    }
     entriesToAddOnCommit.put(key, object);
+    // the versions are read before the commit of another session can change them
+    if (!untagged) {
+      taggedEntriesToAddOnCommit.put(key, new TaggedValue(object, currentVersions(tags), 0));
+    } else if (!isPristine()) {
+      taggedEntriesToAddOnCommit.put(key, new TaggedValue(object, null, tagVersions.getUntaggedVersion()));
+    }
   }
 
   @Override
@@ -90,11 +158,37 @@ public class TransactionalCache implements Cache {
   public void clear() {
     clearOnCommit = true;
     entriesToAddOnCommit.clear();
+    taggedEntriesToAddOnCommit.clear();
+  }
+
+  /**
+   * Evicts, on commit, the entries that depend on any of the given tags and the untagged entries.
+   *
+   * @param tags
+   *          the tags to invalidate
+   */
+  public void invalidate(String[] tags) {
+    if (tagVersions == null) {
+      clear();
+      return;
+    }
+    Collections.addAll(tagsToInvalidateOnCommit, tags);
+    entriesToAddOnCommit.keySet().removeIf(key -> {
+      TaggedValue taggedValue = taggedEntriesToAddOnCommit.get(key);
+      if (taggedValue == null || taggedValue.versions == null
+          || dependsOnInvalidatedTag(taggedValue.versions.keySet())) {
+        taggedEntriesToAddOnCommit.remove(key);
+        return true;
+      }
+      return false;
+    });
   }
 
   public void commit() {
     if (clearOnCommit) {
       delegate.clear();
+    } else if (!tagsToInvalidateOnCommit.isEmpty()) {
+      tagVersions.invalidate(tagsToInvalidateOnCommit);
     }
     flushPendingEntries();
     reset();
@@ -109,11 +203,14 @@ public class TransactionalCache implements Cache {
     clearOnCommit = false;
     entriesToAddOnCommit.clear();
     entriesMissedInCache.clear();
+    taggedEntriesToAddOnCommit.clear();
+    tagsToInvalidateOnCommit.clear();
   }
 
   private void flushPendingEntries() {
     for (Map.Entry<Object, Object> entry : entriesToAddOnCommit.entrySet()) {
-      delegate.putObject(entry.getKey(), entry.getValue());
+      TaggedValue taggedValue = taggedEntriesToAddOnCommit.get(entry.getKey());
+      delegate.putObject(entry.getKey(), taggedValue == null ? entry.getValue() : taggedValue);
     }
     for (Object entry : entriesMissedInCache) {
       if (!entriesToAddOnCommit.containsKey(entry)) {
@@ -133,4 +230,63 @@ public class TransactionalCache implements Cache {
     }
   }
 
+  private boolean isPristine() {
+    return tagVersions == null || tagVersions.isPristine();
+  }
+
+  private boolean isUpToDate(TaggedValue taggedValue) {
+    if (taggedValue.versions == null) {
+      return tagsToInvalidateOnCommit.isEmpty() && taggedValue.untaggedVersion == tagVersions.getUntaggedVersion();
+    }
+    if (dependsOnInvalidatedTag(taggedValue.versions.keySet())) {
+      return false;
+    }
+    for (Map.Entry<String, Long> entry : taggedValue.versions.entrySet()) {
+      if (entry.getValue() != tagVersions.getVersion(entry.getKey())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean dependsOnInvalidatedTag(String[] tags) {
+    return dependsOnInvalidatedTag(Arrays.asList(tags));
+  }
+
+  private boolean dependsOnInvalidatedTag(Collection<String> tags) {
+    if (tagsToInvalidateOnCommit.isEmpty()) {
+      return false;
+    }
+    for (String tag : tags) {
+      if (tagsToInvalidateOnCommit.contains(tag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Map<String, Long> currentVersions(String[] tags) {
+    Map<String, Long> versions = new HashMap<>();
+    for (String tag : tags) {
+      versions.put(tag, tagVersions.getVersion(tag));
+    }
+    return versions;
+  }
+
+  private static class TaggedValue implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object value;
+    // null for an untagged entry stored after a tag was invalidated
+    private final Map<String, Long> versions;
+    private final long untaggedVersion;
+
+    TaggedValue(Object value, Map<String, Long> versions, long untaggedVersion) {
+      this.value = value;
+      this.versions = versions;
+      this.untaggedVersion = untaggedVersion;
+    }
+  }
+
 }
@@ -27,6 +27,7 @@ import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.session.ResultContext;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.LobScope;
 
 /**
  * This is the default implementation of a MyBatis Cursor.
@@ -44,6 +45,12 @@ public class DefaultCursor<T> implements Cursor<T> {
   protected final ObjectWrapperResultHandler<T> objectWrapperResultHandler = new ObjectWrapperResultHandler<>();
 
   private final CursorIterator cursorIterator = new CursorIterator();
+  private final LobScope lobScope = new LobScope();
+  // with nested result maps, the first row of the next object is read before the handler gets the previous object
+  private final ResultHandler<T> markingLobsResultHandler = context -> {
+    lobScope.mark();
+    objectWrapperResultHandler.handleResult(context);
+  };
   private boolean iteratorRetrieved;
 
   private CursorStatus status = CursorStatus.CREATED;
@@ -105,6 +112,12 @@ public class DefaultCursor<T> implements Cursor<T> {
 
   @Override
   public void close() {
+    // the streamed LOBs of the last row stay readable until the cursor is closed by its user
+    lobScope.free();
+    closeResultSet();
+  }
+
+  private void closeResultSet() {
     if (isClosed()) {
       return;
     }
@@ -134,14 +147,19 @@ public class DefaultCursor<T> implements Cursor<T> {
       return null;
     }
 
+    // the previous object is complete, its streamed LOBs are no longer needed
+    lobScope.freeMarked();
+    LobScope previousLobScope = LobScope.enter(lobScope);
     try {
       objectWrapperResultHandler.fetched = false;
       status = CursorStatus.OPEN;
       if (!rsw.getResultSet().isClosed()) {
-        resultSetHandler.handleRowValues(rsw, resultMap, objectWrapperResultHandler, RowBounds.DEFAULT, null);
+        resultSetHandler.handleRowValues(rsw, resultMap, markingLobsResultHandler, RowBounds.DEFAULT, null);
       }
     } catch (SQLException e) {
       throw new RuntimeException(e);
+    } finally {
+      LobScope.enter(previousLobScope);
     }
 
     T next = objectWrapperResultHandler.result;
@@ -150,7 +168,7 @@ public class DefaultCursor<T> implements Cursor<T> {
     }
     // No more object or limit reached
     if (!objectWrapperResultHandler.fetched || getReadItemsCount() == rowBounds.getOffset() + rowBounds.getLimit()) {
-      close();
+      closeResultSet();
       status = CursorStatus.CONSUMED;
     }
     objectWrapperResultHandler.result = null;
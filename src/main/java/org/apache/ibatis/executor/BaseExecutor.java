@@ -335,8 +335,9 @@ public abstract class BaseExecutor implements Executor {
 
   protected Connection getConnection(Log statementLog) throws SQLException {
     Connection connection = transaction.getConnection();
-    if (statementLog.isDebugEnabled()) {
-      return ConnectionLogger.newInstance(connection, statementLog, queryStack);
+    if (statementLog.isDebugEnabled() && configuration.isNextStatementLogSampled()) {
+      return ConnectionLogger.newInstance(connection, statementLog, queryStack,
+          configuration.getLogSlowStatementThreshold());
     } else {
       return connection;
     }
@@ -28,6 +28,7 @@ import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.ParameterMode;
 import org.apache.ibatis.mapping.StatementType;
 import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.transaction.Transaction;
@@ -39,10 +40,24 @@ import org.apache.ibatis.transaction.Transaction;
 public class CachingExecutor implements Executor {
 
   private final Executor delegate;
-  private final TransactionalCacheManager tcm = new TransactionalCacheManager();
+  private final TransactionalCacheManager tcm;
 
   public CachingExecutor(Executor delegate) {
+    this(delegate, null);
+  }
+
+  /**
+   * Creates a caching executor whose cache tags are versioned by the configuration.
+   *
+   * @param delegate
+   *          the executor
+   * @param configuration
+   *          the configuration, or {@code null} to clear the whole cache when tags are invalidated
+   * @since 3.5.10
+   */
+  public CachingExecutor(Executor delegate, Configuration configuration) {
     this.delegate = delegate;
+    this.tcm = new TransactionalCacheManager(configuration);
     delegate.setExecutorWrapper(this);
   }
 
@@ -101,7 +116,7 @@ public class CachingExecutor implements Executor {
         List<E> list = (List<E>) tcm.getObject(cache, key);
         if (list == null) {
           list = delegate.query(ms, parameterObject, rowBounds, resultHandler, key, boundSql);
-          tcm.putObject(cache, key, list); // issue #578 and #116
+          tcm.putObject(cache, key, list, ms.getCacheTags()); // issue #578 and #116
         }
         return list;
       }
@@ -164,7 +179,12 @@ public class CachingExecutor implements Executor {
   private void flushCacheIfRequired(MappedStatement ms) {
     Cache cache = ms.getCache();
     if (cache != null && ms.isFlushCacheRequired()) {
-      tcm.clear(cache);
+      String[] cacheTags = ms.getCacheTags();
+      if (cacheTags == null) {
+        tcm.clear(cache);
+      } else {
+        tcm.invalidate(cache, cacheTags);
+      }
     }
   }
 
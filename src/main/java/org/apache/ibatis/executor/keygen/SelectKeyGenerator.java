@@ -15,7 +15,9 @@
  */
 package org.apache.ibatis.executor.keygen;
 
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.ibatis.executor.Executor;
@@ -33,12 +35,45 @@ import org.apache.ibatis.session.RowBounds;
 public class SelectKeyGenerator implements KeyGenerator {
 
   public static final String SELECT_KEY_SUFFIX = "!selectKey";
+  /**
+   * The name of the parameter that holds the number of keys a block key statement should return.
+   *
+   * @since 3.5.10
+   */
+  public static final String BLOCK_SIZE_PARAMETER = "blockSize";
   private final boolean executeBefore;
   private final MappedStatement keyStatement;
+  private final int blockSize;
+  private List<Object> prefetchedKeys = Collections.emptyList();
+  private int nextPrefetchedKey;
 
   public SelectKeyGenerator(MappedStatement keyStatement, boolean executeBefore) {
+    this(keyStatement, executeBefore, 0);
+  }
+
+  /**
+   * Creates a key generator that fetches the keys in blocks.
+   * <p>
+   * When {@code blockSize} is positive the key statement is run with a parameter map holding
+   * {@link #BLOCK_SIZE_PARAMETER} and should return up to that many rows, one per key. The rows are handed out to the
+   * following inserts, and the statement is run again only once they are all used. Block fetching requires
+   * {@code executeBefore}.
+   *
+   * @param keyStatement
+   *          the key statement
+   * @param executeBefore
+   *          whether the key is selected before the insert
+   * @param blockSize
+   *          the number of keys to fetch at once, or {@code 0} to run the key statement for each insert
+   * @since 3.5.10
+   */
+  public SelectKeyGenerator(MappedStatement keyStatement, boolean executeBefore, int blockSize) {
+    if (blockSize < 0 || (blockSize > 0 && !executeBefore)) {
+      throw new IllegalArgumentException("The block size of a SelectKey must be positive and its order BEFORE.");
+    }
     this.executeBefore = executeBefore;
     this.keyStatement = keyStatement;
+    this.blockSize = blockSize;
   }
 
   @Override
@@ -61,27 +96,29 @@ public class SelectKeyGenerator implements KeyGenerator {
         String[] keyProperties = keyStatement.getKeyProperties();
         final Configuration configuration = ms.getConfiguration();
         final MetaObject metaParam = configuration.newMetaObject(parameter);
-        // Do not close keyExecutor.
-        // The transaction will be closed by parent executor.
-        Executor keyExecutor = configuration.newExecutor(executor.getTransaction(), ExecutorType.SIMPLE);
-        List<Object> values = keyExecutor.query(keyStatement, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
-        if (values.size() == 0) {
-          throw new ExecutorException("SelectKey returned no data.");
-        } else if (values.size() > 1) {
-          throw new ExecutorException("SelectKey returned more than one value.");
+        Object key;
+        if (blockSize > 0) {
+          key = nextPrefetchedKey(executor, configuration);
         } else {
-          MetaObject metaResult = configuration.newMetaObject(values.get(0));
-          if (keyProperties.length == 1) {
-            if (metaResult.hasGetter(keyProperties[0])) {
-              setValue(metaParam, keyProperties[0], metaResult.getValue(keyProperties[0]));
-            } else {
-              // no getter for the property - maybe just a single value object
-              // so try that
-              setValue(metaParam, keyProperties[0], values.get(0));
-            }
+          List<Object> values = newKeyExecutor(executor, configuration).query(keyStatement, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+          if (values.size() == 0) {
+            throw new ExecutorException("SelectKey returned no data.");
+          } else if (values.size() > 1) {
+            throw new ExecutorException("SelectKey returned more than one value.");
+          }
+          key = values.get(0);
+        }
+        MetaObject metaResult = configuration.newMetaObject(key);
+        if (keyProperties.length == 1) {
+          if (metaResult.hasGetter(keyProperties[0])) {
+            setValue(metaParam, keyProperties[0], metaResult.getValue(keyProperties[0]));
           } else {
-            handleMultipleProperties(keyProperties, metaParam, metaResult);
+            // no getter for the property - maybe just a single value object
+            // so try that
+            setValue(metaParam, keyProperties[0], key);
           }
+        } else {
+          handleMultipleProperties(keyProperties, metaParam, metaResult);
         }
       }
     } catch (ExecutorException e) {
@@ -91,6 +128,25 @@ public class SelectKeyGenerator implements KeyGenerator {
     }
   }
 
+  private synchronized Object nextPrefetchedKey(Executor executor, Configuration configuration) throws SQLException {
+    if (nextPrefetchedKey >= prefetchedKeys.size()) {
+      List<Object> values = newKeyExecutor(executor, configuration).query(keyStatement,
+          Collections.singletonMap(BLOCK_SIZE_PARAMETER, blockSize), RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+      if (values.isEmpty()) {
+        throw new ExecutorException("SelectKey returned no data.");
+      }
+      prefetchedKeys = values;
+      nextPrefetchedKey = 0;
+    }
+    return prefetchedKeys.get(nextPrefetchedKey++);
+  }
+
+  private Executor newKeyExecutor(Executor executor, Configuration configuration) {
+    // Do not close keyExecutor.
+    // The transaction will be closed by parent executor.
+    return configuration.newExecutor(executor.getTransaction(), ExecutorType.SIMPLE);
+  }
+
   private void handleMultipleProperties(String[] keyProperties,
       MetaObject metaParam, MetaObject metaResult) {
     String[] keyColumns = keyStatement.getKeyColumns();
@@ -0,0 +1,1731 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.rowset.serial.SerialArray;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * A read only, forward only {@link ResultSet} over the rows of another result set, which are read at once and kept in
+ * memory column by column.
+ * <p>
+ * It is used to move a statement on to its next result set before the rows of the current one are mapped. The values
+ * are the ones of {@link ResultSet#getObject(int)}, with LOBs and arrays copied, and the getters convert them as a driver
+ * would for the common types. The driver's own {@link ResultSet#getString(int)} is kept for the values that are not
+ * strings, and the offset of the columns with a time zone, as their text and offset cannot be rebuilt from the value.
+ */
+final class BufferedResultSet implements ResultSet {
+
+  private final ResultSetMetaData metaData;
+  private final Map<String, Integer> columnIndexes;
+  private Object[][] columns;
+  private String[][] strings;
+  private Object[][] offsetValues;
+  private final int rowCount;
+  private int row = -1;
+  private boolean wasNull;
+  private boolean closed;
+
+  private BufferedResultSet(ResultSetMetaData metaData, Map<String, Integer> columnIndexes, Object[][] columns,
+      String[][] strings, Object[][] offsetValues, int rowCount) {
+    this.metaData = metaData;
+    this.columnIndexes = columnIndexes;
+    this.columns = columns;
+    this.strings = strings;
+    this.offsetValues = offsetValues;
+    this.rowCount = rowCount;
+  }
+
+  /**
+   * Reads the remaining rows of a result set.
+   *
+   * @param rs
+   *          the result set, which is left open
+   * @return the buffered result set
+   * @throws SQLException
+   *           if the result set cannot be read
+   */
+  static BufferedResultSet buffer(ResultSet rs) throws SQLException {
+    BufferedMetaData metaData = new BufferedMetaData(rs.getMetaData());
+    int columnCount = metaData.getColumnCount();
+    Map<String, Integer> columnIndexes = new HashMap<>();
+    for (int i = 1; i <= columnCount; i++) {
+      columnIndexes.putIfAbsent(metaData.getColumnLabel(i).toUpperCase(Locale.ENGLISH), i);
+    }
+    for (int i = 1; i <= columnCount; i++) {
+      columnIndexes.putIfAbsent(metaData.getColumnName(i).toUpperCase(Locale.ENGLISH), i);
+    }
+    Object[][] columns = new Object[columnCount][16];
+    String[][] strings = new String[columnCount][];
+    Object[][] offsetValues = new Object[columnCount][];
+    Class<?>[] offsetTypes = new Class<?>[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      int type = metaData.getColumnType(i + 1);
+      if (!isCharacterOrLob(type)) {
+        strings[i] = new String[16];
+      }
+      if (type == Types.TIMESTAMP_WITH_TIMEZONE) {
+        offsetTypes[i] = OffsetDateTime.class;
+      } else if (type == Types.TIME_WITH_TIMEZONE) {
+        offsetTypes[i] = OffsetTime.class;
+      }
+      if (offsetTypes[i] != null) {
+        offsetValues[i] = new Object[16];
+      }
+    }
+    int rowCount = 0;
+    while (rs.next()) {
+      if (columnCount > 0 && rowCount == columns[0].length) {
+        for (int i = 0; i < columnCount; i++) {
+          columns[i] = Arrays.copyOf(columns[i], rowCount * 2);
+          if (strings[i] != null) {
+            strings[i] = Arrays.copyOf(strings[i], rowCount * 2);
+          }
+          if (offsetValues[i] != null) {
+            offsetValues[i] = Arrays.copyOf(offsetValues[i], rowCount * 2);
+          }
+        }
+      }
+      for (int i = 0; i < columnCount; i++) {
+        Object value = copyValue(rs.getObject(i + 1));
+        columns[i][rowCount] = value;
+        if (value == null) {
+          continue;
+        }
+        if (strings[i] != null && !isStringOrLob(value)) {
+          try {
+            strings[i][rowCount] = rs.getString(i + 1);
+          } catch (SQLException e) {
+            // the driver cannot read it as a string, fall back to the value for the whole column
+            strings[i] = null;
+          }
+        }
+        if (offsetValues[i] != null && !offsetTypes[i].isInstance(value)) {
+          try {
+            offsetValues[i][rowCount] = rs.getObject(i + 1, offsetTypes[i]);
+          } catch (SQLException e) {
+            offsetValues[i] = null;
+          }
+        }
+      }
+      rowCount++;
+    }
+    return new BufferedResultSet(metaData, columnIndexes, columns, strings, offsetValues, rowCount);
+  }
+
+  private static boolean isCharacterOrLob(int type) {
+    switch (type) {
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.LONGVARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+      case Types.LONGNVARCHAR:
+      case Types.CLOB:
+      case Types.NCLOB:
+      case Types.BLOB:
+      case Types.ARRAY:
+      case Types.SQLXML:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isStringOrLob(Object value) {
+    return value instanceof String || value instanceof Clob || value instanceof Blob || value instanceof Array;
+  }
+
+  private static Object copyValue(Object value) throws SQLException {
+    if (value instanceof Blob) {
+      return new SerialBlob((Blob) value);
+    } else if (value instanceof NClob) {
+      return new SerialNClob((NClob) value);
+    } else if (value instanceof Clob) {
+      return new SerialClob((Clob) value);
+    } else if (value instanceof Array) {
+      return new SerialArray((Array) value);
+    } else if (value instanceof SQLXML) {
+      return ((SQLXML) value).getString();
+    }
+    return value;
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("The result set is closed.");
+    }
+  }
+
+  private Object getValue(int columnIndex) throws SQLException {
+    checkOpen();
+    if (row < 0 || row >= rowCount) {
+      throw new SQLException("The result set is not on a row.");
+    }
+    if (columnIndex < 1 || columnIndex > columns.length) {
+      throw new SQLException("Invalid column index " + columnIndex + ".");
+    }
+    Object value = columns[columnIndex - 1][row];
+    wasNull = value == null;
+    return value;
+  }
+
+  private Object getCopyOfValue(int columnIndex) throws SQLException {
+    // the caller may free a LOB or an array, so the buffered one is never handed out
+    return copyValue(getValue(columnIndex));
+  }
+
+  private Object getOffsetValue(int columnIndex) {
+    Object[] values = offsetValues[columnIndex - 1];
+    return values == null ? null : values[row];
+  }
+
+  private boolean hasOffset(int columnIndex, Object value) {
+    return value instanceof OffsetDateTime || value instanceof ZonedDateTime || value instanceof Instant
+        || getOffsetValue(columnIndex) != null;
+  }
+
+  private static long toZone(long millis, Calendar cal) {
+    LocalDateTime localDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    return localDateTime.atZone(cal.getTimeZone().toZoneId()).toInstant().toEpochMilli();
+  }
+
+  private <T> T getValue(int columnIndex, Class<T> type) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null || type.isInstance(value)) {
+      return type.cast(value);
+    }
+    throw cannotConvert(value, type);
+  }
+
+  private Number getNumber(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null || value instanceof Number) {
+      return (Number) value;
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? 1 : 0;
+    } else if (value instanceof String) {
+      try {
+        return new BigDecimal(((String) value).trim());
+      } catch (NumberFormatException e) {
+        // not a number
+      }
+    }
+    throw cannotConvert(value, Number.class);
+  }
+
+  private Object convert(int columnIndex, Object value, Class<?> type) throws SQLException {
+    if (type == String.class) {
+      return getString(columnIndex);
+    } else if (type == Boolean.class) {
+      return getBoolean(columnIndex);
+    } else if (type == Byte.class) {
+      return getByte(columnIndex);
+    } else if (type == Short.class) {
+      return getShort(columnIndex);
+    } else if (type == Integer.class) {
+      return getInt(columnIndex);
+    } else if (type == Long.class) {
+      return getLong(columnIndex);
+    } else if (type == Float.class) {
+      return getFloat(columnIndex);
+    } else if (type == Double.class) {
+      return getDouble(columnIndex);
+    } else if (type == BigDecimal.class) {
+      return getBigDecimal(columnIndex);
+    } else if (type == byte[].class) {
+      return getBytes(columnIndex);
+    } else if (type == Date.class) {
+      return getDate(columnIndex);
+    } else if (type == Time.class) {
+      return getTime(columnIndex);
+    } else if (type == Timestamp.class) {
+      return getTimestamp(columnIndex);
+    } else if (type == Blob.class) {
+      return getBlob(columnIndex);
+    } else if (type == Clob.class) {
+      return getClob(columnIndex);
+    } else if (type == LocalDateTime.class) {
+      return getTimestamp(columnIndex).toLocalDateTime();
+    } else if (type == LocalDate.class) {
+      return getDate(columnIndex).toLocalDate();
+    } else if (type == LocalTime.class) {
+      return value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime().toLocalTime()
+          : getTime(columnIndex).toLocalTime();
+    }
+    Object offsetValue = getOffsetValue(columnIndex);
+    if (offsetValue instanceof OffsetDateTime) {
+      value = offsetValue;
+    } else if (offsetValue != null && type.isInstance(offsetValue)) {
+      return offsetValue;
+    }
+    if (type == Instant.class) {
+      return value instanceof OffsetDateTime ? ((OffsetDateTime) value).toInstant()
+          : getTimestamp(columnIndex).toInstant();
+    } else if (type == OffsetDateTime.class) {
+      if (value instanceof OffsetDateTime) {
+        return value;
+      }
+      return value instanceof ZonedDateTime ? ((ZonedDateTime) value).toOffsetDateTime()
+          : getTimestamp(columnIndex).toLocalDateTime().atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    } else if (type == ZonedDateTime.class) {
+      return value instanceof OffsetDateTime ? ((OffsetDateTime) value).toZonedDateTime()
+          : getTimestamp(columnIndex).toLocalDateTime().atZone(ZoneId.systemDefault());
+    } else if (type == OffsetTime.class && value instanceof OffsetDateTime) {
+      return ((OffsetDateTime) value).toOffsetTime();
+    }
+    throw cannotConvert(value, type);
+  }
+
+  private static SQLException cannotConvert(Object value, Class<?> type) {
+    return new SQLException("Cannot convert a value of " + value.getClass() + " to " + type + ".");
+  }
+
+  private static SQLFeatureNotSupportedException unsupported() {
+    return new SQLFeatureNotSupportedException("Not supported by a buffered result set.");
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    checkOpen();
+    if (row < rowCount) {
+      row++;
+    }
+    return row < rowCount;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    closed = true;
+    columns = null;
+    strings = null;
+    offsetValues = null;
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    return wasNull;
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    } else if (value instanceof Clob) {
+      Clob clob = (Clob) value;
+      return clob.getSubString(1, (int) clob.length());
+    }
+    String[] values = strings[columnIndex - 1];
+    if (values != null && values[row] != null) {
+      return values[row];
+    }
+    return value.toString();
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return false;
+    } else if (value instanceof Boolean) {
+      return (Boolean) value;
+    } else if (value instanceof Number) {
+      return ((Number) value).intValue() != 0;
+    } else if (value instanceof String) {
+      String string = ((String) value).trim();
+      return "1".equals(string) || Boolean.parseBoolean(string);
+    }
+    throw cannotConvert(value, boolean.class);
+  }
+
+  @Override
+  public byte getByte(int columnIndex) throws SQLException {
+    Number value = getNumber(columnIndex);
+    return value == null ? 0 : value.byteValue();
+  }
+
+  @Override
+  public short getShort(int columnIndex) throws SQLException {
+    Number value = getNumber(columnIndex);
+    return value == null ? 0 : value.shortValue();
+  }
+
+  @Override
+  public int getInt(int columnIndex) throws SQLException {
+    Number value = getNumber(columnIndex);
+    return value == null ? 0 : value.intValue();
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws SQLException {
+    Number value = getNumber(columnIndex);
+    return value == null ? 0 : value.longValue();
+  }
+
+  @Override
+  public float getFloat(int columnIndex) throws SQLException {
+    Number value = getNumber(columnIndex);
+    return value == null ? 0 : value.floatValue();
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws SQLException {
+    Number value = getNumber(columnIndex);
+    return value == null ? 0 : value.doubleValue();
+  }
+
+  @Override
+  @Deprecated
+  public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public byte[] getBytes(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null || value instanceof byte[]) {
+      return (byte[]) value;
+    } else if (value instanceof Blob) {
+      Blob blob = (Blob) value;
+      return blob.getBytes(1, (int) blob.length());
+    }
+    throw cannotConvert(value, byte[].class);
+  }
+
+  @Override
+  public Date getDate(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    try {
+      if (value == null || value instanceof Date) {
+        return (Date) value;
+      } else if (value instanceof Timestamp) {
+        return Date.valueOf(((Timestamp) value).toLocalDateTime().toLocalDate());
+      } else if (value instanceof java.util.Date) {
+        return new Date(((java.util.Date) value).getTime());
+      } else if (value instanceof LocalDate) {
+        return Date.valueOf((LocalDate) value);
+      } else if (value instanceof LocalDateTime) {
+        return Date.valueOf(((LocalDateTime) value).toLocalDate());
+      } else if (value instanceof String) {
+        return Date.valueOf(((String) value).trim());
+      }
+    } catch (IllegalArgumentException e) {
+      // not a date
+    }
+    throw cannotConvert(value, Date.class);
+  }
+
+  @Override
+  public Time getTime(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    try {
+      if (value == null || value instanceof Time) {
+        return (Time) value;
+      } else if (value instanceof Timestamp) {
+        // a driver keeps the time of the day only
+        LocalTime time = ((Timestamp) value).toLocalDateTime().toLocalTime();
+        return new Time(
+            LocalDate.of(1970, 1, 1).atTime(time).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+      } else if (value instanceof java.util.Date) {
+        return new Time(((java.util.Date) value).getTime());
+      } else if (value instanceof LocalTime) {
+        return Time.valueOf((LocalTime) value);
+      } else if (value instanceof LocalDateTime) {
+        return Time.valueOf(((LocalDateTime) value).toLocalTime());
+      } else if (value instanceof String) {
+        return Time.valueOf(((String) value).trim());
+      }
+    } catch (IllegalArgumentException e) {
+      // not a time
+    }
+    throw cannotConvert(value, Time.class);
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    try {
+      if (value == null || value instanceof Timestamp) {
+        return (Timestamp) value;
+      } else if (value instanceof java.util.Date) {
+        return new Timestamp(((java.util.Date) value).getTime());
+      } else if (value instanceof LocalDateTime) {
+        return Timestamp.valueOf((LocalDateTime) value);
+      } else if (value instanceof LocalDate) {
+        return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+      } else if (value instanceof OffsetDateTime) {
+        return Timestamp.from(((OffsetDateTime) value).toInstant());
+      } else if (value instanceof Instant) {
+        return Timestamp.from((Instant) value);
+      } else if (value instanceof String) {
+        return Timestamp.valueOf(((String) value).trim());
+      }
+    } catch (IllegalArgumentException e) {
+      // not a timestamp
+    }
+    throw cannotConvert(value, Timestamp.class);
+  }
+
+  @Override
+  public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    String value = getString(columnIndex);
+    return value == null ? null : new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  @Override
+  @Deprecated
+  public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    byte[] value = getBytes(columnIndex);
+    return value == null ? null : new ByteArrayInputStream(value);
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    return getString(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean getBoolean(String columnLabel) throws SQLException {
+    return getBoolean(findColumn(columnLabel));
+  }
+
+  @Override
+  public byte getByte(String columnLabel) throws SQLException {
+    return getByte(findColumn(columnLabel));
+  }
+
+  @Override
+  public short getShort(String columnLabel) throws SQLException {
+    return getShort(findColumn(columnLabel));
+  }
+
+  @Override
+  public int getInt(String columnLabel) throws SQLException {
+    return getInt(findColumn(columnLabel));
+  }
+
+  @Override
+  public long getLong(String columnLabel) throws SQLException {
+    return getLong(findColumn(columnLabel));
+  }
+
+  @Override
+  public float getFloat(String columnLabel) throws SQLException {
+    return getFloat(findColumn(columnLabel));
+  }
+
+  @Override
+  public double getDouble(String columnLabel) throws SQLException {
+    return getDouble(findColumn(columnLabel));
+  }
+
+  @Override
+  @Deprecated
+  public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public byte[] getBytes(String columnLabel) throws SQLException {
+    return getBytes(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(String columnLabel) throws SQLException {
+    return getDate(findColumn(columnLabel));
+  }
+
+  @Override
+  public Time getTime(String columnLabel) throws SQLException {
+    return getTime(findColumn(columnLabel));
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    return getTimestamp(findColumn(columnLabel));
+  }
+
+  @Override
+  public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    return getAsciiStream(findColumn(columnLabel));
+  }
+
+  @Override
+  @Deprecated
+  public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    return getBinaryStream(findColumn(columnLabel));
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public String getCursorName() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    checkOpen();
+    return metaData;
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return getCopyOfValue(columnIndex);
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    return getObject(findColumn(columnLabel));
+  }
+
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    checkOpen();
+    Integer columnIndex = columnIndexes.get(columnLabel.toUpperCase(Locale.ENGLISH));
+    if (columnIndex == null) {
+      throw new SQLException("Column '" + columnLabel + "' not found.");
+    }
+    return columnIndex;
+  }
+
+  @Override
+  public Reader getCharacterStream(int columnIndex) throws SQLException {
+    String value = getString(columnIndex);
+    return value == null ? null : new StringReader(value);
+  }
+
+  @Override
+  public Reader getCharacterStream(String columnLabel) throws SQLException {
+    return getCharacterStream(findColumn(columnLabel));
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    Number value = getNumber(columnIndex);
+    if (value == null || value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    } else if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      return BigDecimal.valueOf(value.doubleValue());
+    }
+    return BigDecimal.valueOf(value.longValue());
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    return getBigDecimal(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    checkOpen();
+    return rowCount > 0 && row < 0;
+  }
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    checkOpen();
+    return rowCount > 0 && row >= rowCount;
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    checkOpen();
+    return rowCount > 0 && row == 0;
+  }
+
+  @Override
+  public boolean isLast() throws SQLException {
+    checkOpen();
+    return rowCount > 0 && row == rowCount - 1;
+  }
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void afterLast() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean first() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean last() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    checkOpen();
+    return row >= 0 && row < rowCount ? row + 1 : 0;
+  }
+
+  @Override
+  public boolean absolute(int row) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean previous() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    checkOpen();
+    if (direction != FETCH_FORWARD) {
+      throw unsupported();
+    }
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    checkOpen();
+    return FETCH_FORWARD;
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    checkOpen();
+    return 0;
+  }
+
+  @Override
+  public int getType() throws SQLException {
+    checkOpen();
+    return TYPE_FORWARD_ONLY;
+  }
+
+  @Override
+  public int getConcurrency() throws SQLException {
+    checkOpen();
+    return CONCUR_READ_ONLY;
+  }
+
+  @Override
+  public boolean rowUpdated() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean rowInserted() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean rowDeleted() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNull(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateByte(int columnIndex, byte x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateShort(int columnIndex, short x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateInt(int columnIndex, int x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateLong(int columnIndex, long x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateFloat(int columnIndex, float x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDouble(int columnIndex, double x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateString(int columnIndex, String x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDate(int columnIndex, Date x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTime(int columnIndex, Time x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNull(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateByte(String columnLabel, byte x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateShort(String columnLabel, short x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateInt(String columnLabel, int x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateLong(String columnLabel, long x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateFloat(String columnLabel, float x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDouble(String columnLabel, double x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateString(String columnLabel, String x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDate(String columnLabel, Date x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTime(String columnLabel, Time x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void insertRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void deleteRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void refreshRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void cancelRowUpdates() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void moveToInsertRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void moveToCurrentRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Statement getStatement() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+    if (map == null || map.isEmpty()) {
+      return getObject(columnIndex);
+    }
+    throw unsupported();
+  }
+
+  @Override
+  public Ref getRef(int columnIndex) throws SQLException {
+    return getValue(columnIndex, Ref.class);
+  }
+
+  @Override
+  public Blob getBlob(int columnIndex) throws SQLException {
+    Object value = getCopyOfValue(columnIndex);
+    if (value == null || value instanceof Blob) {
+      return (Blob) value;
+    } else if (value instanceof byte[]) {
+      return new SerialBlob((byte[]) value);
+    }
+    throw cannotConvert(value, Blob.class);
+  }
+
+  @Override
+  public Clob getClob(int columnIndex) throws SQLException {
+    Object value = getCopyOfValue(columnIndex);
+    if (value == null || value instanceof Clob) {
+      return (Clob) value;
+    } else if (value instanceof String) {
+      return new SerialClob(((String) value).toCharArray());
+    }
+    throw cannotConvert(value, Clob.class);
+  }
+
+  @Override
+  public Array getArray(int columnIndex) throws SQLException {
+    Object value = getCopyOfValue(columnIndex);
+    if (value == null || value instanceof Array) {
+      return (Array) value;
+    }
+    throw cannotConvert(value, Array.class);
+  }
+
+  @Override
+  public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+    return getObject(findColumn(columnLabel), map);
+  }
+
+  @Override
+  public Ref getRef(String columnLabel) throws SQLException {
+    return getRef(findColumn(columnLabel));
+  }
+
+  @Override
+  public Blob getBlob(String columnLabel) throws SQLException {
+    return getBlob(findColumn(columnLabel));
+  }
+
+  @Override
+  public Clob getClob(String columnLabel) throws SQLException {
+    return getClob(findColumn(columnLabel));
+  }
+
+  @Override
+  public Array getArray(String columnLabel) throws SQLException {
+    return getArray(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    Date date = getDate(columnIndex);
+    if (date == null || cal == null || hasOffset(columnIndex, columns[columnIndex - 1][row])) {
+      return date;
+    }
+    return new Date(toZone(date.getTime(), cal));
+  }
+
+  @Override
+  public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    return getDate(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    Time time = getTime(columnIndex);
+    if (time == null || cal == null || hasOffset(columnIndex, columns[columnIndex - 1][row])) {
+      return time;
+    }
+    return new Time(toZone(time.getTime(), cal));
+  }
+
+  @Override
+  public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    return getTime(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    Timestamp timestamp = getTimestamp(columnIndex);
+    if (timestamp == null || cal == null || hasOffset(columnIndex, columns[columnIndex - 1][row])) {
+      return timestamp;
+    }
+    Timestamp result = new Timestamp(toZone(timestamp.getTime(), cal));
+    result.setNanos(timestamp.getNanos());
+    return result;
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    return getTimestamp(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public URL getURL(int columnIndex) throws SQLException {
+    return getValue(columnIndex, URL.class);
+  }
+
+  @Override
+  public URL getURL(String columnLabel) throws SQLException {
+    return getURL(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateRef(int columnIndex, Ref x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRef(String columnLabel, Ref x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, Blob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, Blob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Clob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Clob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateArray(int columnIndex, Array x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateArray(String columnLabel, Array x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public RowId getRowId(int columnIndex) throws SQLException {
+    return getValue(columnIndex, RowId.class);
+  }
+
+  @Override
+  public RowId getRowId(String columnLabel) throws SQLException {
+    return getRowId(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateRowId(int columnIndex, RowId x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRowId(String columnLabel, RowId x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    checkOpen();
+    return CLOSE_CURSORS_AT_COMMIT;
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return closed;
+  }
+
+  @Override
+  public void updateNString(int columnIndex, String nString) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNString(String columnLabel, String nString) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public NClob getNClob(int columnIndex) throws SQLException {
+    Object value = getCopyOfValue(columnIndex);
+    if (value == null || value instanceof NClob) {
+      return (NClob) value;
+    } else if (value instanceof Clob) {
+      return new SerialNClob((Clob) value);
+    } else if (value instanceof String) {
+      return new SerialNClob(((String) value).toCharArray());
+    }
+    throw cannotConvert(value, NClob.class);
+  }
+
+  @Override
+  public NClob getNClob(String columnLabel) throws SQLException {
+    return getNClob(findColumn(columnLabel));
+  }
+
+  @Override
+  public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    String value = getString(columnIndex);
+    return value == null ? null : new BufferedSQLXML(value);
+  }
+
+  @Override
+  public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    return getSQLXML(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public String getNString(int columnIndex) throws SQLException {
+    return getString(columnIndex);
+  }
+
+  @Override
+  public String getNString(String columnLabel) throws SQLException {
+    return getNString(findColumn(columnLabel));
+  }
+
+  @Override
+  public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    return getCharacterStream(columnIndex);
+  }
+
+  @Override
+  public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    return getNCharacterStream(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    if (type == null) {
+      throw new SQLException("Type cannot be null.");
+    }
+    Object value = getCopyOfValue(columnIndex);
+    if (value == null || type.isInstance(value)) {
+      return type.cast(value);
+    }
+    return type.cast(convert(columnIndex, value, type));
+  }
+
+  @Override
+  public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+    return getObject(findColumn(columnLabel), type);
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (isWrapperFor(iface)) {
+      return iface.cast(this);
+    }
+    throw new SQLException(getClass().getName() + " does not wrap " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  /**
+   * A serial NClob, the JDK has a serial Clob only.
+   */
+  private static final class SerialNClob extends SerialClob implements NClob {
+
+    private static final long serialVersionUID = 1L;
+
+    SerialNClob(char[] chars) throws SQLException {
+      super(chars);
+    }
+
+    SerialNClob(Clob clob) throws SQLException {
+      super(clob);
+    }
+  }
+
+  /**
+   * A read only SQLXML over the buffered text of the value.
+   */
+  private static final class BufferedSQLXML implements SQLXML {
+
+    private String value;
+
+    BufferedSQLXML(String value) {
+      this.value = value;
+    }
+
+    private String getValue() throws SQLException {
+      if (value == null) {
+        throw new SQLException("The SQLXML has been freed.");
+      }
+      return value;
+    }
+
+    @Override
+    public void free() {
+      value = null;
+    }
+
+    @Override
+    public InputStream getBinaryStream() throws SQLException {
+      return new ByteArrayInputStream(getValue().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public OutputStream setBinaryStream() throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public Reader getCharacterStream() throws SQLException {
+      return new StringReader(getValue());
+    }
+
+    @Override
+    public Writer setCharacterStream() throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public String getString() throws SQLException {
+      return getValue();
+    }
+
+    @Override
+    public void setString(String value) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Source> T getSource(Class<T> sourceClass) throws SQLException {
+      if (sourceClass == null || sourceClass == StreamSource.class) {
+        return (T) new StreamSource(getCharacterStream());
+      }
+      throw unsupported();
+    }
+
+    @Override
+    public <T extends Result> T setResult(Class<T> resultClass) throws SQLException {
+      throw unsupported();
+    }
+  }
+
+  /**
+   * The column names and types of the buffered result set.
+   */
+  private static final class BufferedMetaData implements ResultSetMetaData {
+
+    private final String[] labels;
+    private final String[] names;
+    private final int[] types;
+    private final String[] typeNames;
+    private final String[] classNames;
+
+    BufferedMetaData(ResultSetMetaData metaData) throws SQLException {
+      int columnCount = metaData.getColumnCount();
+      labels = new String[columnCount];
+      names = new String[columnCount];
+      types = new int[columnCount];
+      typeNames = new String[columnCount];
+      classNames = new String[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        labels[i] = metaData.getColumnLabel(i + 1);
+        names[i] = metaData.getColumnName(i + 1);
+        types[i] = metaData.getColumnType(i + 1);
+        typeNames[i] = metaData.getColumnTypeName(i + 1);
+        classNames[i] = metaData.getColumnClassName(i + 1);
+      }
+    }
+
+    private int index(int column) throws SQLException {
+      if (column < 1 || column > labels.length) {
+        throw new SQLException("Invalid column index " + column + ".");
+      }
+      return column - 1;
+    }
+
+    @Override
+    public int getColumnCount() {
+      return labels.length;
+    }
+
+    @Override
+    public String getColumnLabel(int column) throws SQLException {
+      return labels[index(column)];
+    }
+
+    @Override
+    public String getColumnName(int column) throws SQLException {
+      return names[index(column)];
+    }
+
+    @Override
+    public int getColumnType(int column) throws SQLException {
+      return types[index(column)];
+    }
+
+    @Override
+    public String getColumnTypeName(int column) throws SQLException {
+      return typeNames[index(column)];
+    }
+
+    @Override
+    public String getColumnClassName(int column) throws SQLException {
+      return classNames[index(column)];
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isSearchable(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isCurrency(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int isNullable(int column) throws SQLException {
+      index(column);
+      return columnNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public String getSchemaName(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int getPrecision(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int getScale(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public String getTableName(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public String getCatalogName(int column) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isReadOnly(int column) throws SQLException {
+      index(column);
+      return true;
+    }
+
+    @Override
+    public boolean isWritable(int column) throws SQLException {
+      index(column);
+      return false;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) throws SQLException {
+      index(column);
+      return false;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+      if (isWrapperFor(iface)) {
+        return iface.cast(this);
+      }
+      throw new SQLException(getClass().getName() + " does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+      return iface.isInstance(this);
+    }
+  }
+
+}
@@ -21,12 +21,18 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.apache.ibatis.annotations.AutomapConstructor;
 import org.apache.ibatis.binding.MapperMethod.ParamMap;
@@ -42,6 +48,8 @@ import org.apache.ibatis.executor.parameter.ParameterHandler;
 import org.apache.ibatis.executor.result.DefaultResultContext;
 import org.apache.ibatis.executor.result.DefaultResultHandler;
 import org.apache.ibatis.executor.result.ResultMapException;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.Discriminator;
 import org.apache.ibatis.mapping.MappedStatement;
@@ -59,8 +67,10 @@ import org.apache.ibatis.session.ResultContext;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.LobScope;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.apache.ibatis.type.UnknownTypeHandler;
 import org.apache.ibatis.util.MapUtil;
 
 /**
@@ -71,8 +81,13 @@ import org.apache.ibatis.util.MapUtil;
  */
 public class DefaultResultSetHandler implements ResultSetHandler {
 
+  private static final Log log = LogFactory.getLog(DefaultResultSetHandler.class);
+
   private static final Object DEFERRED = new Object();
 
+  // how many of the last ordered results are remembered to tell whether the rows are really grouped
+  private static final int ORDERED_ROW_KEYS_WINDOW = 1024;
+
   private final Executor executor;
   private final Configuration configuration;
   private final MappedStatement mappedStatement;
@@ -85,9 +100,11 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   private final ReflectorFactory reflectorFactory;
 
   // nested resultmaps
-  private final Map<CacheKey, Object> nestedResultObjects = new HashMap<>();
+  private final Map<RowKey, Object> nestedResultObjects = new HashMap<>();
   private final Map<String, Object> ancestorObjects = new HashMap<>();
   private Object previousRowValue;
+  private Map<RowKey, Boolean> orderedRowKeys;
+  private boolean rowsNotOrderedWarned;
 
   // multiple resultsets
   private final Map<String, ResultMapping> nextResultMaps = new HashMap<>();
@@ -95,6 +112,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
   // Cached Automappings
   private final Map<String, List<UnMappedColumnAutoMapping>> autoMappingsCache = new HashMap<>();
+  private final Map<List<ResultMapping>, ResultObjectConstructor> mappedConstructorsCache = new IdentityHashMap<>();
+  private final Map<ResultSetWrapper, Map<Class<?>, ResultObjectConstructor>> autoMappedConstructorsCache = new HashMap<>();
+  private final Map<ResultSetWrapper, Map<ResultMap, Map<String, RowKey.Reader>>> rowKeyReadersCache = new HashMap<>();
 
   // temporary marking flag that indicate using constructor mapping (use field to reduce memory usage)
   private boolean useConstructorMappings;
@@ -104,17 +124,29 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     public ResultMapping propertyMapping;
   }
 
+  static class ConstructorArgs {
+    private ResultObjectConstructor constructor;
+    private Object[] values;
+
+    private boolean isEmpty() {
+      return constructor == null || values.length == 0;
+    }
+  }
+
   private static class UnMappedColumnAutoMapping {
     private final String column;
     private final String property;
     private final TypeHandler<?> typeHandler;
     private final boolean primitive;
+    private final PrimitivePropertySetter primitiveSetter;
 
-    public UnMappedColumnAutoMapping(String column, String property, TypeHandler<?> typeHandler, boolean primitive) {
+    public UnMappedColumnAutoMapping(String column, String property, TypeHandler<?> typeHandler, boolean primitive,
+        PrimitivePropertySetter primitiveSetter) {
       this.column = column;
       this.property = property;
       this.typeHandler = typeHandler;
       this.primitive = primitive;
+      this.primitiveSetter = primitiveSetter;
     }
   }
 
@@ -190,6 +222,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     List<ResultMap> resultMaps = mappedStatement.getResultMaps();
     int resultMapCount = resultMaps.size();
     validateResultMapsCount(rsw, resultMapCount);
+    if (rsw != null && shouldMapResultSetsInParallel(resultMaps)) {
+      return collapseSingleResultList(handleResultSetsInParallel(stmt, rsw, resultMaps));
+    }
     while (rsw != null && resultMapCount > resultSetCount) {
       ResultMap resultMap = resultMaps.get(resultSetCount);
       handleResultSet(rsw, resultMap, multipleResults, null);
@@ -216,6 +251,104 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return collapseSingleResultList(multipleResults);
   }
 
+  private boolean shouldMapResultSetsInParallel(List<ResultMap> resultMaps) {
+    if (!configuration.isParallelResultSetMapping() || resultMaps.size() < 2 || resultHandler != null
+        || mappedStatement.getResultSets() != null) {
+      return false;
+    }
+    // nested selects would share the executor between threads
+    Set<String> visitedResultMaps = new HashSet<>();
+    for (ResultMap resultMap : resultMaps) {
+      if (hasNestedQueries(resultMap, visitedResultMaps)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean hasNestedQueries(ResultMap resultMap, Set<String> visitedResultMaps) {
+    if (!visitedResultMaps.add(resultMap.getId())) {
+      return false;
+    }
+    if (resultMap.hasNestedQueries()) {
+      return true;
+    }
+    for (ResultMapping resultMapping : resultMap.getResultMappings()) {
+      if (resultMapping.getNestedResultMapId() != null
+          && hasNestedQueries(configuration.getResultMap(resultMapping.getNestedResultMapId()), visitedResultMaps)) {
+        return true;
+      }
+    }
+    Discriminator discriminator = resultMap.getDiscriminator();
+    if (discriminator != null) {
+      for (String caseResultMapId : discriminator.getDiscriminatorMap().values()) {
+        if (hasNestedQueries(configuration.getResultMap(caseResultMapId), visitedResultMaps)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private List<Object> handleResultSetsInParallel(Statement stmt, ResultSetWrapper rsw, List<ResultMap> resultMaps) throws SQLException {
+    final List<ResultSet> bufferedResultSets = new ArrayList<>();
+    while (rsw != null && bufferedResultSets.size() < resultMaps.size()) {
+      try {
+        bufferedResultSets.add(BufferedResultSet.buffer(rsw.getResultSet()));
+      } finally {
+        closeResultSet(rsw.getResultSet());
+      }
+      rsw = getNextResultSet(stmt);
+    }
+    final List<ForkJoinTask<List<Object>>> tasks = new ArrayList<>();
+    for (int i = 0; i < bufferedResultSets.size(); i++) {
+      final ResultSet resultSet = bufferedResultSets.get(i);
+      final ResultMap resultMap = resultMaps.get(i);
+      tasks.add(ForkJoinPool.commonPool().submit(() -> handleBufferedResultSet(resultSet, resultMap)));
+    }
+    final List<Object> multipleResults = new ArrayList<>();
+    for (ForkJoinTask<List<Object>> task : tasks) {
+      try {
+        multipleResults.addAll(task.get());
+      } catch (InterruptedException e) {
+        cancelAll(tasks);
+        Thread.currentThread().interrupt();
+        throw new ExecutorException("Interrupted while mapping the result sets of '" + mappedStatement.getId() + "'.", e);
+      } catch (ExecutionException e) {
+        cancelAll(tasks);
+        Throwable cause = e.getCause();
+        if (cause instanceof SQLException) {
+          throw (SQLException) cause;
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new ExecutorException("Error mapping the result sets of '" + mappedStatement.getId() + "'.  Cause: " + cause, cause);
+      }
+    }
+    return multipleResults;
+  }
+
+  private void cancelAll(List<ForkJoinTask<List<Object>>> tasks) {
+    for (ForkJoinTask<List<Object>> task : tasks) {
+      task.cancel(true);
+    }
+  }
+
+  private List<Object> handleBufferedResultSet(ResultSet resultSet, ResultMap resultMap) throws SQLException {
+    // each result set gets its own handler, as the mapping state is not shared between threads
+    final DefaultResultSetHandler handler = new DefaultResultSetHandler(executor, mappedStatement, parameterHandler, null, boundSql, rowBounds);
+    final List<Object> results = new ArrayList<>();
+    ErrorContext.instance().store().activity("handling results").object(mappedStatement.getId());
+    try {
+      handler.handleResultSet(new ResultSetWrapper(resultSet, configuration), resultMap, results, null);
+    } finally {
+      ErrorContext.instance().recall();
+    }
+    return results;
+  }
+
   @Override
   public <E> Cursor<E> handleCursorResultSets(Statement stmt) throws SQLException {
     ErrorContext.instance().activity("handling cursor results").object(mappedStatement.getId());
@@ -283,6 +416,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
   private void cleanUpAfterHandlingResultSet() {
     nestedResultObjects.clear();
+    orderedRowKeys = null;
+    rowsNotOrderedWarned = false;
   }
 
   private void validateResultMapsCount(ResultSetWrapper rsw, int resultMapCount) {
@@ -293,6 +428,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   }
 
   private void handleResultSet(ResultSetWrapper rsw, ResultMap resultMap, List<Object> multipleResults, ResultMapping parentMapping) throws SQLException {
+    // streamed LOBs are only freed when the rows are handed to the caller's result handler
+    LobScope lobScope = parentMapping == null && resultHandler != null ? new LobScope() : null;
+    LobScope previousLobScope = LobScope.enter(lobScope);
     try {
       if (parentMapping != null) {
         handleRowValues(rsw, resultMap, null, RowBounds.DEFAULT, parentMapping);
@@ -302,15 +440,28 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           handleRowValues(rsw, resultMap, defaultResultHandler, rowBounds, null);
           multipleResults.add(defaultResultHandler.getResultList());
         } else {
-          handleRowValues(rsw, resultMap, resultHandler, rowBounds, null);
+          handleRowValues(rsw, resultMap, freeingLobsAfterEachRow(resultHandler, lobScope), rowBounds, null);
         }
       }
     } finally {
+      LobScope.enter(previousLobScope);
+      if (lobScope != null) {
+        lobScope.free();
+      }
       // issue #228 (close resultsets)
       closeResultSet(rsw.getResultSet());
     }
   }
 
+  @SuppressWarnings("unchecked" /* because ResultHandler<?> is always ResultHandler<Object>*/)
+  private static ResultHandler<Object> freeingLobsAfterEachRow(ResultHandler<?> resultHandler, LobScope lobScope) {
+    // an object is handed over before the rows of the next one are read, even with nested result maps
+    return context -> {
+      ((ResultHandler<Object>) resultHandler).handleResult(context);
+      lobScope.free();
+    };
+  }
+
   @SuppressWarnings("unchecked")
   private List<Object> collapseSingleResultList(List<Object> multipleResults) {
     return multipleResults.size() == 1 ? (List<Object>) multipleResults.get(0) : multipleResults;
@@ -323,7 +474,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   public void handleRowValues(ResultSetWrapper rsw, ResultMap resultMap, ResultHandler<?> resultHandler, RowBounds rowBounds, ResultMapping parentMapping) throws SQLException {
     if (resultMap.hasNestedResultMaps()) {
       ensureNoRowBounds();
-      checkResultHandler();
+      if (!resultMap.isResultOrdered()) {
+        checkResultHandler();
+      }
       handleRowValuesForNestedResultMap(rsw, resultMap, resultHandler, rowBounds, parentMapping);
     } else {
       handleRowValuesForSimpleResultMap(rsw, resultMap, resultHandler, rowBounds, parentMapping);
@@ -341,7 +494,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     if (resultHandler != null && configuration.isSafeResultHandlerEnabled() && !mappedStatement.isResultOrdered()) {
       throw new ExecutorException("Mapped Statements with nested result mappings cannot be safely used with a custom ResultHandler. "
           + "Use safeResultHandlerEnabled=false setting to bypass this check "
-          + "or ensure your statement returns ordered data and set resultOrdered=true on it.");
+          + "or ensure your statement returns ordered data and set resultOrdered=true on it or on its result map.");
     }
   }
 
@@ -413,7 +566,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   // GET VALUE FROM ROW FOR NESTED RESULT MAP
   //
 
-  private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, CacheKey combinedKey, String columnPrefix, Object partialObject) throws SQLException {
+  private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, RowKey combinedKey, String columnPrefix, Object partialObject) throws SQLException {
     final String resultMapId = resultMap.getId();
     Object rowValue = partialObject;
     if (rowValue != null) {
@@ -437,7 +590,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         foundValues = lazyLoader.size() > 0 || foundValues;
         rowValue = foundValues || configuration.isReturnInstanceForEmptyRow() ? rowValue : null;
       }
-      if (combinedKey != CacheKey.NULL_CACHE_KEY) {
+      if (combinedKey != RowKey.NULL_ROW_KEY) {
         nestedResultObjects.put(combinedKey, rowValue);
       }
     }
@@ -478,7 +631,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       if (propertyMapping.isCompositeResult()
           || (column != null && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH)))
           || propertyMapping.getResultSet() != null) {
-        Object value = getPropertyMappingValue(rsw.getResultSet(), metaObject, propertyMapping, lazyLoader, columnPrefix);
+        Object value = getPropertyMappingValue(rsw, metaObject, propertyMapping, lazyLoader, columnPrefix);
         // issue #541 make property optional
         final String property = propertyMapping.getProperty();
         if (property == null) {
@@ -499,20 +652,30 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return foundValues;
   }
 
-  private Object getPropertyMappingValue(ResultSet rs, MetaObject metaResultObject, ResultMapping propertyMapping, ResultLoaderMap lazyLoader, String columnPrefix)
+  private Object getPropertyMappingValue(ResultSetWrapper rsw, MetaObject metaResultObject, ResultMapping propertyMapping, ResultLoaderMap lazyLoader, String columnPrefix)
       throws SQLException {
+    final ResultSet rs = rsw.getResultSet();
     if (propertyMapping.getNestedQueryId() != null) {
       return getNestedQueryMappingValue(rs, metaResultObject, propertyMapping, lazyLoader, columnPrefix);
     } else if (propertyMapping.getResultSet() != null) {
       addPendingChildRelation(rs, metaResultObject, propertyMapping);   // TODO is that OK?
       return DEFERRED;
     } else {
-      final TypeHandler<?> typeHandler = propertyMapping.getTypeHandler();
       final String column = prependPrefix(propertyMapping.getColumn(), columnPrefix);
+      final TypeHandler<?> typeHandler = resolveColumnTypeHandler(rsw, propertyMapping, column);
       return typeHandler.getResult(rs, column);
     }
   }
 
+  private TypeHandler<?> resolveColumnTypeHandler(ResultSetWrapper rsw, ResultMapping resultMapping, String column) {
+    final TypeHandler<?> typeHandler = resultMapping.getTypeHandler();
+    // resolve what the unknown type handler would pick once per column instead of once per value
+    if (typeHandler != null && typeHandler.getClass() == UnknownTypeHandler.class) {
+      return rsw.getUnknownColumnTypeHandler(column);
+    }
+    return typeHandler;
+  }
+
   private List<UnMappedColumnAutoMapping> createAutomaticMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject, String columnPrefix) throws SQLException {
     final String mapKey = resultMap.getId() + ":" + columnPrefix;
     List<UnMappedColumnAutoMapping> autoMapping = autoMappingsCache.get(mapKey);
@@ -538,7 +701,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           final Class<?> propertyType = metaObject.getSetterType(property);
           if (typeHandlerRegistry.hasTypeHandler(propertyType, rsw.getJdbcType(columnName))) {
             final TypeHandler<?> typeHandler = rsw.getTypeHandler(propertyType, columnName);
-            autoMapping.add(new UnMappedColumnAutoMapping(columnName, property, typeHandler, propertyType.isPrimitive()));
+            final PrimitivePropertySetter primitiveSetter = propertyType.isPrimitive()
+                ? PrimitivePropertySetter.of(metaObject, property, typeHandler, configuration.getReflectorFactory()) : null;
+            autoMapping.add(new UnMappedColumnAutoMapping(columnName, property, typeHandler, propertyType.isPrimitive(), primitiveSetter));
           } else {
             configuration.getAutoMappingUnknownColumnBehavior()
                 .doAction(mappedStatement, columnName, property, propertyType);
@@ -558,6 +723,13 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     boolean foundValues = false;
     if (!autoMapping.isEmpty()) {
       for (UnMappedColumnAutoMapping mapping : autoMapping) {
+        final PrimitivePropertySetter primitiveSetter = mapping.primitiveSetter;
+        if (primitiveSetter != null && primitiveSetter.canSet(metaObject.getOriginalObject())) {
+          if (primitiveSetter.set(rsw.getResultSet(), mapping.column, metaObject.getOriginalObject())) {
+            foundValues = true;
+          }
+          continue;
+        }
         final Object value = mapping.typeHandler.getResult(rsw.getResultSet(), mapping.column);
         if (value != null) {
           foundValues = true;
@@ -626,24 +798,25 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
   private Object createResultObject(ResultSetWrapper rsw, ResultMap resultMap, ResultLoaderMap lazyLoader, String columnPrefix) throws SQLException {
     this.useConstructorMappings = false; // reset previous mapping result
-    final List<Class<?>> constructorArgTypes = new ArrayList<>();
-    final List<Object> constructorArgs = new ArrayList<>();
-    Object resultObject = createResultObject(rsw, resultMap, constructorArgTypes, constructorArgs, columnPrefix);
+    final ConstructorArgs constructorArgs = new ConstructorArgs();
+    Object resultObject = createResultObject(rsw, resultMap, constructorArgs, columnPrefix);
     if (resultObject != null && !hasTypeHandlerForResultObject(rsw, resultMap.getType())) {
       final List<ResultMapping> propertyMappings = resultMap.getPropertyResultMappings();
       for (ResultMapping propertyMapping : propertyMappings) {
         // issue gcode #109 && issue #149
         if (propertyMapping.getNestedQueryId() != null && propertyMapping.isLazy()) {
-          resultObject = configuration.getProxyFactory().createProxy(resultObject, lazyLoader, configuration, objectFactory, constructorArgTypes, constructorArgs);
+          final List<Class<?>> constructorArgTypes = constructorArgs.isEmpty() ? new ArrayList<>() : constructorArgs.constructor.getArgTypes();
+          final List<Object> constructorArgValues = constructorArgs.isEmpty() ? new ArrayList<>() : Arrays.asList(constructorArgs.values);
+          resultObject = configuration.getProxyFactory().createProxy(resultObject, lazyLoader, configuration, objectFactory, constructorArgTypes, constructorArgValues);
           break;
         }
       }
     }
-    this.useConstructorMappings = resultObject != null && !constructorArgTypes.isEmpty(); // set current mapping result
+    this.useConstructorMappings = resultObject != null && !constructorArgs.isEmpty(); // set current mapping result
     return resultObject;
   }
 
-  private Object createResultObject(ResultSetWrapper rsw, ResultMap resultMap, List<Class<?>> constructorArgTypes, List<Object> constructorArgs, String columnPrefix)
+  private Object createResultObject(ResultSetWrapper rsw, ResultMap resultMap, ConstructorArgs constructorArgs, String columnPrefix)
       throws SQLException {
     final Class<?> resultType = resultMap.getType();
     final MetaClass metaType = MetaClass.forClass(resultType, reflectorFactory);
@@ -651,20 +824,21 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     if (hasTypeHandlerForResultObject(rsw, resultType)) {
       return createPrimitiveResultObject(rsw, resultMap, columnPrefix);
     } else if (!constructorMappings.isEmpty()) {
-      return createParameterizedResultObject(rsw, resultType, constructorMappings, constructorArgTypes, constructorArgs, columnPrefix);
+      return createParameterizedResultObject(rsw, resultType, constructorMappings, constructorArgs, columnPrefix);
     } else if (resultType.isInterface() || metaType.hasDefaultConstructor()) {
       return objectFactory.create(resultType);
     } else if (shouldApplyAutomaticMappings(resultMap, false)) {
-      return createByConstructorSignature(rsw, resultType, constructorArgTypes, constructorArgs);
+      return createByConstructorSignature(rsw, resultType, constructorArgs);
     }
     throw new ExecutorException("Do not know how to create an instance of " + resultType);
   }
 
   Object createParameterizedResultObject(ResultSetWrapper rsw, Class<?> resultType, List<ResultMapping> constructorMappings,
-                                         List<Class<?>> constructorArgTypes, List<Object> constructorArgs, String columnPrefix) {
+                                         ConstructorArgs constructorArgs, String columnPrefix) {
     boolean foundValues = false;
-    for (ResultMapping constructorMapping : constructorMappings) {
-      final Class<?> parameterType = constructorMapping.getJavaType();
+    final Object[] values = new Object[constructorMappings.size()];
+    for (int i = 0; i < values.length; i++) {
+      final ResultMapping constructorMapping = constructorMappings.get(i);
       final String column = constructorMapping.getColumn();
       final Object value;
       try {
@@ -674,46 +848,83 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           final ResultMap resultMap = configuration.getResultMap(constructorMapping.getNestedResultMapId());
           value = getRowValue(rsw, resultMap, getColumnPrefix(columnPrefix, constructorMapping));
         } else {
-          final TypeHandler<?> typeHandler = constructorMapping.getTypeHandler();
-          value = typeHandler.getResult(rsw.getResultSet(), prependPrefix(column, columnPrefix));
+          final String prefixedColumn = prependPrefix(column, columnPrefix);
+          final TypeHandler<?> typeHandler = resolveColumnTypeHandler(rsw, constructorMapping, prefixedColumn);
+          value = typeHandler.getResult(rsw.getResultSet(), prefixedColumn);
         }
       } catch (ResultMapException | SQLException e) {
         throw new ExecutorException("Could not process result for mapping: " + constructorMapping, e);
       }
-      constructorArgTypes.add(parameterType);
-      constructorArgs.add(value);
+      values[i] = value;
       foundValues = value != null || foundValues;
     }
-    return foundValues ? objectFactory.create(resultType, constructorArgTypes, constructorArgs) : null;
+    if (!foundValues) {
+      return null;
+    }
+    // the constructor mappings of a result map do not change, so its list is the key
+    ResultObjectConstructor constructor = mappedConstructorsCache.get(constructorMappings);
+    if (constructor == null || constructor.getResultType() != resultType) {
+      final Class<?>[] argTypes = new Class<?>[constructorMappings.size()];
+      for (int i = 0; i < argTypes.length; i++) {
+        argTypes[i] = constructorMappings.get(i).getJavaType();
+      }
+      constructor = new ResultObjectConstructor(resultType, argTypes, objectFactory, null);
+      mappedConstructorsCache.put(constructorMappings, constructor);
+    }
+    constructorArgs.constructor = constructor;
+    constructorArgs.values = values;
+    return constructor.newInstance(objectFactory, values);
+  }
+
+  private Object createByConstructorSignature(ResultSetWrapper rsw, Class<?> resultType, ConstructorArgs constructorArgs) throws SQLException {
+    final Map<Class<?>, ResultObjectConstructor> constructors = MapUtil.computeIfAbsent(autoMappedConstructorsCache, rsw, k -> new HashMap<>());
+    ResultObjectConstructor constructor = constructors.get(resultType);
+    if (constructor == null) {
+      constructor = resolveConstructorBySignature(rsw, resultType);
+      constructors.put(resultType, constructor);
+    }
+    return createUsingConstructor(rsw, constructor, constructorArgs);
   }
 
-  private Object createByConstructorSignature(ResultSetWrapper rsw, Class<?> resultType, List<Class<?>> constructorArgTypes, List<Object> constructorArgs) throws SQLException {
+  private ResultObjectConstructor resolveConstructorBySignature(ResultSetWrapper rsw, Class<?> resultType) {
     final Constructor<?>[] constructors = resultType.getDeclaredConstructors();
     final Constructor<?> defaultConstructor = findDefaultConstructor(constructors);
     if (defaultConstructor != null) {
-      return createUsingConstructor(rsw, resultType, constructorArgTypes, constructorArgs, defaultConstructor);
+      return newAutoMappedConstructor(rsw, resultType, defaultConstructor);
     } else {
       for (Constructor<?> constructor : constructors) {
         if (allowedConstructorUsingTypeHandlers(constructor, rsw.getJdbcTypes())) {
-          return createUsingConstructor(rsw, resultType, constructorArgTypes, constructorArgs, constructor);
+          return newAutoMappedConstructor(rsw, resultType, constructor);
         }
       }
     }
     throw new ExecutorException("No constructor found in " + resultType.getName() + " matching " + rsw.getClassNames());
   }
 
-  private Object createUsingConstructor(ResultSetWrapper rsw, Class<?> resultType, List<Class<?>> constructorArgTypes, List<Object> constructorArgs, Constructor<?> constructor) throws SQLException {
+  private ResultObjectConstructor newAutoMappedConstructor(ResultSetWrapper rsw, Class<?> resultType, Constructor<?> constructor) {
+    final Class<?>[] parameterTypes = constructor.getParameterTypes();
+    final TypeHandler<?>[] typeHandlers = new TypeHandler<?>[parameterTypes.length];
+    for (int i = 0; i < parameterTypes.length; i++) {
+      typeHandlers[i] = rsw.getTypeHandler(parameterTypes[i], rsw.getColumnNames().get(i));
+    }
+    return new ResultObjectConstructor(resultType, parameterTypes, objectFactory, typeHandlers);
+  }
+
+  private Object createUsingConstructor(ResultSetWrapper rsw, ResultObjectConstructor constructor, ConstructorArgs constructorArgs) throws SQLException {
     boolean foundValues = false;
-    for (int i = 0; i < constructor.getParameterTypes().length; i++) {
-      Class<?> parameterType = constructor.getParameterTypes()[i];
+    final Object[] values = new Object[constructor.getArgCount()];
+    for (int i = 0; i < values.length; i++) {
       String columnName = rsw.getColumnNames().get(i);
-      TypeHandler<?> typeHandler = rsw.getTypeHandler(parameterType, columnName);
-      Object value = typeHandler.getResult(rsw.getResultSet(), columnName);
-      constructorArgTypes.add(parameterType);
-      constructorArgs.add(value);
+      Object value = constructor.getTypeHandler(i).getResult(rsw.getResultSet(), columnName);
+      values[i] = value;
       foundValues = value != null || foundValues;
     }
-    return foundValues ? objectFactory.create(resultType, constructorArgTypes, constructorArgs) : null;
+    if (!foundValues) {
+      return null;
+    }
+    constructorArgs.constructor = constructor;
+    constructorArgs.values = values;
+    return constructor.newInstance(objectFactory, values);
   }
 
   private Constructor<?> findDefaultConstructor(final Constructor<?>[] constructors) {
@@ -895,15 +1106,19 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     ResultSet resultSet = rsw.getResultSet();
     skipRows(resultSet, rowBounds);
     Object rowValue = previousRowValue;
+    final boolean resultOrdered = mappedStatement.isResultOrdered() || resultMap.isResultOrdered();
     while (shouldProcessMoreRows(resultContext, rowBounds) && !resultSet.isClosed() && resultSet.next()) {
       final ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(resultSet, resultMap, null);
-      final CacheKey rowKey = createRowKey(discriminatedResultMap, rsw, null);
+      final RowKey rowKey = createRowKey(discriminatedResultMap, rsw, null);
       Object partialObject = nestedResultObjects.get(rowKey);
       // issue #577 && #542
-      if (mappedStatement.isResultOrdered()) {
-        if (partialObject == null && rowValue != null) {
-          nestedResultObjects.clear();
-          storeObject(resultHandler, resultContext, rowValue, parentMapping, resultSet);
+      if (resultOrdered) {
+        if (partialObject == null) {
+          checkRowsOrdered(resultMap, rowKey);
+          if (rowValue != null) {
+            nestedResultObjects.clear();
+            storeObject(resultHandler, resultContext, rowValue, parentMapping, resultSet);
+          }
         }
         rowValue = getRowValue(rsw, discriminatedResultMap, rowKey, null, partialObject);
       } else {
@@ -913,7 +1128,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         }
       }
     }
-    if (rowValue != null && mappedStatement.isResultOrdered() && shouldProcessMoreRows(resultContext, rowBounds)) {
+    if (rowValue != null && resultOrdered && shouldProcessMoreRows(resultContext, rowBounds)) {
       storeObject(resultHandler, resultContext, rowValue, parentMapping, resultSet);
       previousRowValue = null;
     } else if (rowValue != null) {
@@ -921,11 +1136,34 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
   }
 
+  private void checkRowsOrdered(ResultMap resultMap, RowKey rowKey) {
+    if (rowKey == RowKey.NULL_ROW_KEY || rowsNotOrderedWarned) {
+      return;
+    }
+    if (orderedRowKeys == null) {
+      orderedRowKeys = new LinkedHashMap<RowKey, Boolean>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RowKey, Boolean> eldest) {
+          return size() > ORDERED_ROW_KEYS_WINDOW;
+        }
+      };
+    }
+    if (orderedRowKeys.put(rowKey, Boolean.TRUE) != null) {
+      log.warn("The rows mapped by '" + resultMap.getId() + "' for '" + mappedStatement.getId()
+          + "' are not grouped by its id columns, so the same result is returned more than once. "
+          + "Order the statement by the id columns or remove resultOrdered=true.");
+      rowsNotOrderedWarned = true;
+      orderedRowKeys = null;
+    }
+  }
+
   //
   // NESTED RESULT MAP (JOIN MAPPING)
   //
 
-  private boolean applyNestedResultMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject, String parentPrefix, CacheKey parentRowKey, boolean newObject) {
+  private boolean applyNestedResultMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject, String parentPrefix, RowKey parentRowKey, boolean newObject) {
     boolean foundValues = false;
     for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
       final String nestedResultMapId = resultMapping.getNestedResultMapId();
@@ -944,8 +1182,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
               continue;
             }
           }
-          final CacheKey rowKey = createRowKey(nestedResultMap, rsw, columnPrefix);
-          final CacheKey combinedKey = combineKeys(rowKey, parentRowKey);
+          final RowKey combinedKey = createRowKey(nestedResultMap, rsw, columnPrefix).combine(parentRowKey);
           Object rowValue = nestedResultObjects.get(combinedKey);
           boolean knownValue = rowValue != null;
           instantiateCollectionPropertyIfAppropriate(resultMapping, metaObject); // mandatory
@@ -1006,37 +1243,33 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   // UNIQUE RESULT KEY
   //
 
-  private CacheKey createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
-    final CacheKey cacheKey = new CacheKey();
-    cacheKey.update(resultMap.getId());
-    List<ResultMapping> resultMappings = getResultMappingsForRowKey(resultMap);
-    if (resultMappings.isEmpty()) {
-      if (Map.class.isAssignableFrom(resultMap.getType())) {
-        createRowKeyForMap(rsw, cacheKey);
-      } else {
-        createRowKeyForUnmappedProperties(resultMap, rsw, cacheKey, columnPrefix);
-      }
-    } else {
-      createRowKeyForMappedProperties(resultMap, rsw, cacheKey, resultMappings, columnPrefix);
-    }
-    if (cacheKey.getUpdateCount() < 2) {
-      return CacheKey.NULL_CACHE_KEY;
+  private RowKey createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+    final Map<String, RowKey.Reader> readers = MapUtil.computeIfAbsent(
+        MapUtil.computeIfAbsent(rowKeyReadersCache, rsw, k -> new IdentityHashMap<>()), resultMap, k -> new HashMap<>());
+    RowKey.Reader reader = readers.get(columnPrefix);
+    if (reader == null) {
+      reader = createRowKeyReader(resultMap, rsw, columnPrefix);
+      readers.put(columnPrefix, reader);
     }
-    return cacheKey;
+    return reader.read(rsw.getResultSet());
   }
 
-  private CacheKey combineKeys(CacheKey rowKey, CacheKey parentRowKey) {
-    if (rowKey.getUpdateCount() > 1 && parentRowKey.getUpdateCount() > 1) {
-      CacheKey combinedKey;
-      try {
-        combinedKey = rowKey.clone();
-      } catch (CloneNotSupportedException e) {
-        throw new ExecutorException("Error cloning cache key.  Cause: " + e, e);
-      }
-      combinedKey.update(parentRowKey);
-      return combinedKey;
+  private RowKey.Reader createRowKeyReader(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+    List<ResultMapping> resultMappings = getResultMappingsForRowKey(resultMap);
+    if (!resultMappings.isEmpty()) {
+      return createRowKeyReaderForMappedProperties(resultMap, rsw, resultMappings, columnPrefix);
+    }
+    final List<String> columns;
+    if (Map.class.isAssignableFrom(resultMap.getType())) {
+      columns = rsw.getColumnNames();
+    } else {
+      columns = getUnmappedPropertyColumns(resultMap, rsw, columnPrefix);
     }
-    return CacheKey.NULL_CACHE_KEY;
+    final int[] columnIndexes = new int[columns.size()];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      columnIndexes[i] = rsw.getColumnIndex(columns.get(i));
+    }
+    return new RowKey.Reader(resultMap.getId(), columnPrefix, columnIndexes, null, false);
   }
 
   private List<ResultMapping> getResultMappingsForRowKey(ResultMap resultMap) {
@@ -1047,27 +1280,28 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return resultMappings;
   }
 
-  private void createRowKeyForMappedProperties(ResultMap resultMap, ResultSetWrapper rsw, CacheKey cacheKey, List<ResultMapping> resultMappings, String columnPrefix) throws SQLException {
+  private RowKey.Reader createRowKeyReaderForMappedProperties(ResultMap resultMap, ResultSetWrapper rsw, List<ResultMapping> resultMappings, String columnPrefix) throws SQLException {
+    List<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, columnPrefix);
+    List<Integer> columnIndexes = new ArrayList<>();
+    List<TypeHandler<?>> typeHandlers = new ArrayList<>();
     for (ResultMapping resultMapping : resultMappings) {
       if (resultMapping.isSimple()) {
         final String column = prependPrefix(resultMapping.getColumn(), columnPrefix);
-        final TypeHandler<?> th = resultMapping.getTypeHandler();
-        List<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, columnPrefix);
         // Issue #114
         if (column != null && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))) {
-          final Object value = th.getResult(rsw.getResultSet(), column);
-          if (value != null || configuration.isReturnInstanceForEmptyRow()) {
-            cacheKey.update(column);
-            cacheKey.update(value);
-          }
+          columnIndexes.add(rsw.getColumnIndex(column));
+          typeHandlers.add(resolveColumnTypeHandler(rsw, resultMapping, column));
         }
       }
     }
+    return new RowKey.Reader(resultMap.getId(), columnPrefix, columnIndexes.stream().mapToInt(Integer::intValue).toArray(),
+        typeHandlers.toArray(new TypeHandler<?>[0]), configuration.isReturnInstanceForEmptyRow());
   }
 
-  private void createRowKeyForUnmappedProperties(ResultMap resultMap, ResultSetWrapper rsw, CacheKey cacheKey, String columnPrefix) throws SQLException {
+  private List<String> getUnmappedPropertyColumns(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
     final MetaClass metaType = MetaClass.forClass(resultMap.getType(), reflectorFactory);
     List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
+    List<String> columns = new ArrayList<>();
     for (String column : unmappedColumnNames) {
       String property = column;
       if (columnPrefix != null && !columnPrefix.isEmpty()) {
@@ -1079,24 +1313,10 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         }
       }
       if (metaType.findProperty(property, configuration.isMapUnderscoreToCamelCase()) != null) {
-        String value = rsw.getResultSet().getString(column);
-        if (value != null) {
-          cacheKey.update(column);
-          cacheKey.update(value);
-        }
-      }
-    }
-  }
-
-  private void createRowKeyForMap(ResultSetWrapper rsw, CacheKey cacheKey) throws SQLException {
-    List<String> columnNames = rsw.getColumnNames();
-    for (String columnName : columnNames) {
-      final String value = rsw.getResultSet().getString(columnName);
-      if (value != null) {
-        cacheKey.update(columnName);
-        cacheKey.update(value);
+        columns.add(column);
       }
     }
+    return columns;
   }
 
   private void linkObjects(MetaObject metaObject, ResultMapping resultMapping, Object rowValue) {
@@ -0,0 +1,264 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.executor.result.ResultMapException;
+import org.apache.ibatis.lang.UsesJava8;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.reflection.invoker.MethodInvoker;
+import org.apache.ibatis.reflection.wrapper.BeanWrapper;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.PrimitiveTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Reads a column with a {@link PrimitiveTypeHandler} and passes the primitive value to the setter of a bean property
+ * through a method handle, so that the value is never boxed.
+ */
+abstract class PrimitivePropertySetter {
+
+  private final Class<?> beanType;
+  private final String property;
+  protected final MethodHandle setter;
+
+  private PrimitivePropertySetter(Method method, String property, Class<?> primitiveType) throws IllegalAccessException {
+    this.beanType = method.getDeclaringClass();
+    this.property = property;
+    this.setter = unreflect(method).asType(MethodType.methodType(void.class, Object.class, primitiveType));
+  }
+
+  /**
+   * Creates a setter for a property of the object of the meta object.
+   *
+   * @return the setter, or {@code null} if the property is not a primitive bean property that the type handler can read
+   */
+  static PrimitivePropertySetter of(MetaObject metaObject, String property, TypeHandler<?> typeHandler,
+      ReflectorFactory reflectorFactory) {
+    if (!(typeHandler instanceof PrimitiveTypeHandler.OfInt || typeHandler instanceof PrimitiveTypeHandler.OfLong
+        || typeHandler instanceof PrimitiveTypeHandler.OfDouble || typeHandler instanceof PrimitiveTypeHandler.OfBoolean)
+        || metaObject.getObjectWrapper().getClass() != BeanWrapper.class || property.indexOf('.') >= 0) {
+      return null;
+    }
+    Reflector reflector = reflectorFactory.findForClass(metaObject.getOriginalObject().getClass());
+    Invoker invoker = reflector.getSetInvoker(property);
+    if (!(invoker instanceof MethodInvoker)) {
+      return null;
+    }
+    Method method = ((MethodInvoker) invoker).getMethod();
+    Class<?> type = invoker.getType();
+    try {
+      if (type == int.class && typeHandler instanceof PrimitiveTypeHandler.OfInt
+          && readsLikeResult(typeHandler, "getInt")) {
+        return new OfInt(method, property, (PrimitiveTypeHandler.OfInt) typeHandler);
+      } else if (type == long.class && typeHandler instanceof PrimitiveTypeHandler.OfLong
+          && readsLikeResult(typeHandler, "getLong")) {
+        return new OfLong(method, property, (PrimitiveTypeHandler.OfLong) typeHandler);
+      } else if (type == double.class && typeHandler instanceof PrimitiveTypeHandler.OfDouble
+          && readsLikeResult(typeHandler, "getDouble")) {
+        return new OfDouble(method, property, (PrimitiveTypeHandler.OfDouble) typeHandler);
+      } else if (type == boolean.class && typeHandler instanceof PrimitiveTypeHandler.OfBoolean
+          && readsLikeResult(typeHandler, "getBoolean")) {
+        return new OfBoolean(method, property, (PrimitiveTypeHandler.OfBoolean) typeHandler);
+      }
+    } catch (IllegalAccessException e) {
+      // fall back to the reflective setter
+    }
+    return null;
+  }
+
+  /**
+   * A subclass that overrides how a result is read, but not the primitive getter, must keep being called through
+   * {@link TypeHandler#getResult(ResultSet, String)}.
+   */
+  private static boolean readsLikeResult(TypeHandler<?> typeHandler, String getterName) {
+    try {
+      Class<?> handlerType = typeHandler.getClass();
+      Class<?> getterClass = handlerType.getMethod(getterName, ResultSet.class, String.class).getDeclaringClass();
+      Class<?> resultClass = handlerType.getMethod("getResult", ResultSet.class, String.class).getDeclaringClass();
+      if (resultClass != BaseTypeHandler.class) {
+        return resultClass == getterClass;
+      }
+      return handlerType.getMethod("getNullableResult", ResultSet.class, String.class).getDeclaringClass() == getterClass;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+    try {
+      return MethodHandles.lookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      if (Reflector.canControlMemberAccessible()) {
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Whether this setter can be applied to the object, which may be of a different type than the object it was created
+   * for.
+   */
+  boolean canSet(Object object) {
+    return beanType.isInstance(object);
+  }
+
+  /**
+   * Reads the column and sets the property. The implementations are marked with {@link UsesJava8} because the API
+   * signature check does not recognize calls to the signature polymorphic {@link MethodHandle#invokeExact}.
+   *
+   * @return {@code false} if the column is SQL {@code NULL}, in which case the property is left unchanged
+   */
+  abstract boolean set(ResultSet rs, String column, Object object) throws SQLException;
+
+  protected ResultMapException readError(String column, Exception e) {
+    return new ResultMapException("Error attempting to get column '" + column + "' from result set.  Cause: " + e, e);
+  }
+
+  protected ReflectionException writeError(Object object, Object value, Throwable t) {
+    return new ReflectionException("Could not set property '" + property + "' of '" + object.getClass()
+        + "' with value '" + value + "' Cause: " + t.toString(), t);
+  }
+
+  private static class OfInt extends PrimitivePropertySetter {
+    private final PrimitiveTypeHandler.OfInt typeHandler;
+
+    OfInt(Method method, String property, PrimitiveTypeHandler.OfInt typeHandler) throws IllegalAccessException {
+      super(method, property, int.class);
+      this.typeHandler = typeHandler;
+    }
+
+    @Override
+    @UsesJava8
+    boolean set(ResultSet rs, String column, Object object) throws SQLException {
+      final int value;
+      try {
+        value = typeHandler.getInt(rs, column);
+      } catch (Exception e) {
+        throw readError(column, e);
+      }
+      if (value == 0 && rs.wasNull()) {
+        return false;
+      }
+      try {
+        setter.invokeExact(object, value);
+      } catch (Throwable t) {
+        throw writeError(object, value, t);
+      }
+      return true;
+    }
+  }
+
+  private static class OfLong extends PrimitivePropertySetter {
+    private final PrimitiveTypeHandler.OfLong typeHandler;
+
+    OfLong(Method method, String property, PrimitiveTypeHandler.OfLong typeHandler) throws IllegalAccessException {
+      super(method, property, long.class);
+      this.typeHandler = typeHandler;
+    }
+
+    @Override
+    @UsesJava8
+    boolean set(ResultSet rs, String column, Object object) throws SQLException {
+      final long value;
+      try {
+        value = typeHandler.getLong(rs, column);
+      } catch (Exception e) {
+        throw readError(column, e);
+      }
+      if (value == 0 && rs.wasNull()) {
+        return false;
+      }
+      try {
+        setter.invokeExact(object, value);
+      } catch (Throwable t) {
+        throw writeError(object, value, t);
+      }
+      return true;
+    }
+  }
+
+  private static class OfDouble extends PrimitivePropertySetter {
+    private final PrimitiveTypeHandler.OfDouble typeHandler;
+
+    OfDouble(Method method, String property, PrimitiveTypeHandler.OfDouble typeHandler) throws IllegalAccessException {
+      super(method, property, double.class);
+      this.typeHandler = typeHandler;
+    }
+
+    @Override
+    @UsesJava8
+    boolean set(ResultSet rs, String column, Object object) throws SQLException {
+      final double value;
+      try {
+        value = typeHandler.getDouble(rs, column);
+      } catch (Exception e) {
+        throw readError(column, e);
+      }
+      if (value == 0 && rs.wasNull()) {
+        return false;
+      }
+      try {
+        setter.invokeExact(object, value);
+      } catch (Throwable t) {
+        throw writeError(object, value, t);
+      }
+      return true;
+    }
+  }
+
+  private static class OfBoolean extends PrimitivePropertySetter {
+    private final PrimitiveTypeHandler.OfBoolean typeHandler;
+
+    OfBoolean(Method method, String property, PrimitiveTypeHandler.OfBoolean typeHandler) throws IllegalAccessException {
+      super(method, property, boolean.class);
+      this.typeHandler = typeHandler;
+    }
+
+    @Override
+    @UsesJava8
+    boolean set(ResultSet rs, String column, Object object) throws SQLException {
+      final boolean value;
+      try {
+        value = typeHandler.getBoolean(rs, column);
+      } catch (Exception e) {
+        throw readError(column, e);
+      }
+      if (!value && rs.wasNull()) {
+        return false;
+      }
+      try {
+        setter.invokeExact(object, value);
+      } catch (Throwable t) {
+        throw writeError(object, value, t);
+      }
+      return true;
+    }
+  }
+
+}
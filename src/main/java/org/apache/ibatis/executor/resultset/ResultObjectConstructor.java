@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.lang.UsesJava8;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.factory.DefaultObjectFactory;
+import org.apache.ibatis.reflection.factory.ObjectFactory;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * The constructor of the result objects of a result map, resolved once for all its rows.
+ * <p>
+ * With the {@link DefaultObjectFactory}, the objects are created through a method handle on the constructor that takes
+ * the arguments as an array. Any other object factory keeps being asked to create them.
+ */
+class ResultObjectConstructor {
+
+  private final Class<?> resultType;
+  private final List<Class<?>> argTypes;
+  private final MethodHandle constructor;
+  private final TypeHandler<?>[] typeHandlers;
+
+  /**
+   * @param typeHandlers
+   *          the handlers reading the arguments from the columns of the same index, when the arguments are
+   *          auto-mapped
+   */
+  ResultObjectConstructor(Class<?> resultType, Class<?>[] argTypes, ObjectFactory objectFactory,
+      TypeHandler<?>[] typeHandlers) {
+    this.resultType = resultType;
+    this.argTypes = Collections.unmodifiableList(Arrays.asList(argTypes));
+    this.constructor = objectFactory.getClass() == DefaultObjectFactory.class ? unreflect(resultType, argTypes) : null;
+    this.typeHandlers = typeHandlers;
+  }
+
+  private static MethodHandle unreflect(Class<?> resultType, Class<?>[] argTypes) {
+    if (resultType.isInterface() || Modifier.isAbstract(resultType.getModifiers())) {
+      return null;
+    }
+    try {
+      Constructor<?> constructor = resultType.getDeclaredConstructor(argTypes);
+      MethodHandle handle;
+      try {
+        handle = MethodHandles.lookup().unreflectConstructor(constructor);
+      } catch (IllegalAccessException e) {
+        if (!Reflector.canControlMemberAccessible()) {
+          return null;
+        }
+        constructor.setAccessible(true);
+        handle = MethodHandles.lookup().unreflectConstructor(constructor);
+      }
+      return handle.asSpreader(Object[].class, argTypes.length)
+          .asType(MethodType.methodType(Object.class, Object[].class));
+    } catch (Exception e) {
+      // let the object factory report the error
+      return null;
+    }
+  }
+
+  Class<?> getResultType() {
+    return resultType;
+  }
+
+  List<Class<?>> getArgTypes() {
+    return argTypes;
+  }
+
+  int getArgCount() {
+    return argTypes.size();
+  }
+
+  TypeHandler<?> getTypeHandler(int index) {
+    return typeHandlers[index];
+  }
+
+  /**
+   * Creates a result object. It is marked with {@link UsesJava8} because the API signature check does not recognize
+   * calls to the signature polymorphic {@link MethodHandle#invokeExact}.
+   */
+  @UsesJava8
+  Object newInstance(ObjectFactory objectFactory, Object[] args) {
+    if (constructor == null) {
+      return objectFactory.create(resultType, argTypes, Arrays.asList(args));
+    }
+    try {
+      return (Object) constructor.invokeExact(args);
+    } catch (Throwable t) {
+      String types = argTypes.stream().map(Class::getSimpleName).collect(Collectors.joining(","));
+      String values = Arrays.stream(args).map(String::valueOf).collect(Collectors.joining(","));
+      throw new ReflectionException("Error instantiating " + resultType + " with invalid types (" + types
+          + ") or values (" + values + "). Cause: " + t, t);
+    }
+  }
+
+}
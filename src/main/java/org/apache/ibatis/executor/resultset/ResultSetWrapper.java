@@ -41,12 +41,15 @@ import org.apache.ibatis.type.UnknownTypeHandler;
  */
 public class ResultSetWrapper {
 
+  private static final ObjectTypeHandler OBJECT_TYPE_HANDLER = new ObjectTypeHandler();
+
   private final ResultSet resultSet;
   private final TypeHandlerRegistry typeHandlerRegistry;
   private final List<String> columnNames = new ArrayList<>();
   private final List<String> classNames = new ArrayList<>();
   private final List<JdbcType> jdbcTypes = new ArrayList<>();
   private final Map<String, Map<Class<?>, TypeHandler<?>>> typeHandlerMap = new HashMap<>();
+  private TypeHandler<?>[] columnTypeHandlers;
   private final Map<String, List<String>> mappedColumnNamesMap = new HashMap<>();
   private final Map<String, List<String>> unMappedColumnNamesMap = new HashMap<>();
 
@@ -114,20 +117,65 @@ public class ResultSetWrapper {
       // Replicate logic of UnknownTypeHandler#resolveTypeHandler
       // See issue #59 comment 10
       if (handler == null || handler instanceof UnknownTypeHandler) {
-        final int index = columnNames.indexOf(columnName);
-        final Class<?> javaType = resolveClass(classNames.get(index));
-        if (javaType != null && jdbcType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(javaType, jdbcType);
-        } else if (javaType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(javaType);
-        } else if (jdbcType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(jdbcType);
-        }
+        handler = getColumnTypeHandler(columnNames.indexOf(columnName));
+      }
+      columnHandlers.put(propertyType, handler);
+    }
+    return handler;
+  }
+
+  /**
+   * Gets the type handler that an {@link UnknownTypeHandler} would resolve for the column.
+   * The handler is resolved once per column from the result set metadata, so that a mapping
+   * without a known java type does not have to inspect the metadata for each row.
+   *
+   * @param columnName
+   *          the column name
+   * @return the type handler
+   * @since 3.5.10
+   */
+  public TypeHandler<?> getUnknownColumnTypeHandler(String columnName) {
+    return getColumnTypeHandler(columnNames.indexOf(columnName));
+  }
+
+  /**
+   * Gets the index of the first column with the name, ignoring the case as {@link ResultSet#findColumn(String)} does.
+   *
+   * @param columnName
+   *          the column name
+   * @return the index starting at 1, or -1 if there is no such column
+   */
+  int getColumnIndex(String columnName) {
+    for (int i = 0; i < columnNames.size(); i++) {
+      if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+        return i + 1;
+      }
+    }
+    return -1;
+  }
+
+  private TypeHandler<?> getColumnTypeHandler(int index) {
+    if (index < 0) {
+      return OBJECT_TYPE_HANDLER;
+    }
+    if (columnTypeHandlers == null) {
+      columnTypeHandlers = new TypeHandler<?>[columnNames.size()];
+    }
+    TypeHandler<?> handler = columnTypeHandlers[index];
+    if (handler == null) {
+      final JdbcType jdbcType = jdbcTypes.get(index);
+      final Class<?> javaType = resolveClass(classNames.get(index));
+      if (javaType != null && jdbcType != null) {
+        handler = typeHandlerRegistry.getTypeHandler(javaType, jdbcType);
+      } else if (javaType != null) {
+        handler = typeHandlerRegistry.getTypeHandler(javaType);
+      } else if (jdbcType != null) {
+        handler = typeHandlerRegistry.getTypeHandler(jdbcType);
       }
       if (handler == null || handler instanceof UnknownTypeHandler) {
-        handler = new ObjectTypeHandler();
+        handler = OBJECT_TYPE_HANDLER;
       }
-      columnHandlers.put(propertyType, handler);
+      columnTypeHandlers[index] = handler;
     }
     return handler;
   }
@@ -0,0 +1,182 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import org.apache.ibatis.reflection.ArrayUtil;
+import org.apache.ibatis.type.IntegerTypeHandler;
+import org.apache.ibatis.type.LongTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * The key that identifies the object mapped from a row by a result map with nested result maps.
+ * <p>
+ * It is made of the id of the result map, the column prefix, the values of the id columns (or of all the mapped
+ * columns when there is no id) and the key of the parent object. A single integral id is kept as a {@code long}.
+ */
+final class RowKey {
+
+  static final RowKey NULL_ROW_KEY = new RowKey(null, null, 0L, null, null);
+
+  private final String resultMapId;
+  private final String columnPrefix;
+  private final long id;
+  private final Object[] values;
+  private final RowKey parent;
+  private final int hashCode;
+
+  private RowKey(String resultMapId, String columnPrefix, long id, Object[] values, RowKey parent) {
+    this.resultMapId = resultMapId;
+    this.columnPrefix = columnPrefix;
+    this.id = id;
+    this.values = values;
+    this.parent = parent;
+    int hash = Objects.hashCode(resultMapId);
+    hash = 31 * hash + Objects.hashCode(columnPrefix);
+    if (values == null) {
+      hash = 31 * hash + Long.hashCode(id);
+    } else {
+      for (Object value : values) {
+        hash = 31 * hash + ArrayUtil.hashCode(value);
+      }
+    }
+    this.hashCode = 31 * hash + Objects.hashCode(parent);
+  }
+
+  /**
+   * Returns the key of this row within the object of the parent key.
+   *
+   * @param parentKey
+   *          the key of the parent object
+   * @return the combined key, or {@link #NULL_ROW_KEY} if either key is
+   */
+  RowKey combine(RowKey parentKey) {
+    if (this == NULL_ROW_KEY || parentKey == NULL_ROW_KEY) {
+      return NULL_ROW_KEY;
+    }
+    return new RowKey(resultMapId, columnPrefix, id, values, parentKey);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof RowKey)) {
+      return false;
+    }
+    RowKey that = (RowKey) object;
+    return hashCode == that.hashCode
+        && id == that.id
+        && Objects.equals(resultMapId, that.resultMapId)
+        && Objects.equals(columnPrefix, that.columnPrefix)
+        && valuesEqual(that.values)
+        && Objects.equals(parent, that.parent);
+  }
+
+  private boolean valuesEqual(Object[] thatValues) {
+    if (values == null || thatValues == null) {
+      return values == thatValues;
+    }
+    if (values.length != thatValues.length) {
+      return false;
+    }
+    for (int i = 0; i < values.length; i++) {
+      if (!ArrayUtil.equals(values[i], thatValues[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    String value = values == null ? String.valueOf(id) : ArrayUtil.toString(values);
+    return resultMapId + (columnPrefix == null ? "" : ":" + columnPrefix) + ":" + value
+        + (parent == null ? "" : "/" + parent);
+  }
+
+  /**
+   * Reads the keys of the rows mapped by a result map with a given column prefix. The key columns are resolved once per
+   * result set and read by index.
+   */
+  static final class Reader {
+
+    private final String resultMapId;
+    private final String columnPrefix;
+    private final int[] columnIndexes;
+    private final TypeHandler<?>[] typeHandlers;
+    private final boolean keyEmptyRows;
+    private final boolean integralId;
+
+    /**
+     * Creates a reader.
+     *
+     * @param resultMapId
+     *          the result map id
+     * @param columnPrefix
+     *          the column prefix
+     * @param columnIndexes
+     *          the indexes of the key columns
+     * @param typeHandlers
+     *          the type handlers of the key columns, or {@code null} to read them as strings
+     * @param keyEmptyRows
+     *          whether a row whose key columns are all {@code null} has a key
+     */
+    Reader(String resultMapId, String columnPrefix, int[] columnIndexes, TypeHandler<?>[] typeHandlers, boolean keyEmptyRows) {
+      this.resultMapId = resultMapId;
+      this.columnPrefix = columnPrefix;
+      this.columnIndexes = columnIndexes;
+      this.typeHandlers = typeHandlers;
+      this.keyEmptyRows = keyEmptyRows;
+      this.integralId = typeHandlers != null && typeHandlers.length == 1
+          && (typeHandlers[0].getClass() == IntegerTypeHandler.class || typeHandlers[0].getClass() == LongTypeHandler.class);
+    }
+
+    RowKey read(ResultSet rs) throws SQLException {
+      if (columnIndexes.length == 0) {
+        return NULL_ROW_KEY;
+      }
+      if (integralId) {
+        long value = rs.getLong(columnIndexes[0]);
+        if (!rs.wasNull()) {
+          return new RowKey(resultMapId, columnPrefix, value, null, null);
+        }
+        return keyEmptyRows ? new RowKey(resultMapId, columnPrefix, 0L, new Object[1], null) : NULL_ROW_KEY;
+      }
+      Object[] values = new Object[columnIndexes.length];
+      boolean foundValues = false;
+      for (int i = 0; i < columnIndexes.length; i++) {
+        Object value = typeHandlers == null ? rs.getString(columnIndexes[i]) : typeHandlers[i].getResult(rs, columnIndexes[i]);
+        values[i] = value;
+        foundValues = foundValues || value != null;
+      }
+      if (!foundValues && !keyEmptyRows) {
+        return NULL_ROW_KEY;
+      }
+      return new RowKey(resultMapId, columnPrefix, 0L, values, null);
+    }
+  }
+
+}
@@ -0,0 +1,212 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.io;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The names a class file declares: the class, its super class, its interfaces and its class annotations. They are read
+ * from the bytecode, without loading the class.
+ *
+ * @since 3.5.10
+ */
+class ClassFileHeader {
+
+  private static final int MAGIC = 0xCAFEBABE;
+
+  private final String superName;
+  private final List<String> interfaceNames;
+  private final List<String> annotationNames;
+
+  private ClassFileHeader(String superName, List<String> interfaceNames, List<String> annotationNames) {
+    this.superName = superName;
+    this.interfaceNames = interfaceNames;
+    this.annotationNames = annotationNames;
+  }
+
+  /**
+   * Reads the header of a class.
+   *
+   * @param loader
+   *          the class loader
+   * @param className
+   *          the binary name of the class
+   * @return the header, or {@code null} if the class file cannot be found or read
+   */
+  static ClassFileHeader read(ClassLoader loader, String className) {
+    InputStream in = loader.getResourceAsStream(className.replace('.', '/') + ".class");
+    if (in == null) {
+      return null;
+    }
+    try (DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+      return read(data);
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static ClassFileHeader read(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a class file");
+    }
+    in.readUnsignedShort(); // minor version
+    in.readUnsignedShort(); // major version
+    int poolSize = in.readUnsignedShort();
+    String[] utf8 = new String[poolSize];
+    int[] classNameIndex = new int[poolSize];
+    for (int i = 1; i < poolSize; i++) {
+      int tag = in.readUnsignedByte();
+      switch (tag) {
+        case 1: // Utf8
+          utf8[i] = in.readUTF();
+          break;
+        case 7: // Class
+          classNameIndex[i] = in.readUnsignedShort();
+          break;
+        case 8: // String
+        case 16: // MethodType
+        case 19: // Module
+        case 20: // Package
+          skip(in, 2);
+          break;
+        case 15: // MethodHandle
+          skip(in, 3);
+          break;
+        case 3: // Integer
+        case 4: // Float
+        case 9: // Fieldref
+        case 10: // Methodref
+        case 11: // InterfaceMethodref
+        case 12: // NameAndType
+        case 17: // Dynamic
+        case 18: // InvokeDynamic
+          skip(in, 4);
+          break;
+        case 5: // Long
+        case 6: // Double
+          skip(in, 8);
+          i++;
+          break;
+        default:
+          throw new IOException("Unknown constant pool tag " + tag);
+      }
+    }
+    in.readUnsignedShort(); // access flags
+    in.readUnsignedShort(); // this class
+    int superIndex = in.readUnsignedShort();
+    String superName = superIndex == 0 ? null : className(utf8[classNameIndex[superIndex]]);
+    int interfaceCount = in.readUnsignedShort();
+    List<String> interfaceNames = new ArrayList<>(interfaceCount);
+    for (int i = 0; i < interfaceCount; i++) {
+      interfaceNames.add(className(utf8[classNameIndex[in.readUnsignedShort()]]));
+    }
+    skipMembers(in); // fields
+    skipMembers(in); // methods
+    List<String> annotationNames = new ArrayList<>();
+    int attributeCount = in.readUnsignedShort();
+    for (int i = 0; i < attributeCount; i++) {
+      String attributeName = utf8[in.readUnsignedShort()];
+      int length = in.readInt();
+      if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+        int annotationCount = in.readUnsignedShort();
+        for (int j = 0; j < annotationCount; j++) {
+          String descriptor = utf8[in.readUnsignedShort()];
+          annotationNames.add(className(descriptor.substring(1, descriptor.length() - 1)));
+          skipElementValuePairs(in);
+        }
+      } else {
+        skip(in, length);
+      }
+    }
+    return new ClassFileHeader(superName, interfaceNames, annotationNames);
+  }
+
+  private static void skipMembers(DataInputStream in) throws IOException {
+    int count = in.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      skip(in, 6); // access flags, name and descriptor
+      int attributeCount = in.readUnsignedShort();
+      for (int j = 0; j < attributeCount; j++) {
+        skip(in, 2);
+        skip(in, in.readInt());
+      }
+    }
+  }
+
+  private static void skipElementValuePairs(DataInputStream in) throws IOException {
+    int count = in.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      skip(in, 2); // element name
+      skipElementValue(in);
+    }
+  }
+
+  private static void skipElementValue(DataInputStream in) throws IOException {
+    int tag = in.readUnsignedByte();
+    switch (tag) {
+      case 'e':
+        skip(in, 4);
+        break;
+      case '@':
+        skip(in, 2);
+        skipElementValuePairs(in);
+        break;
+      case '[':
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+          skipElementValue(in);
+        }
+        break;
+      default:
+        skip(in, 2);
+        break;
+    }
+  }
+
+  private static void skip(DataInputStream in, int length) throws IOException {
+    int remaining = length;
+    while (remaining > 0) {
+      int skipped = in.skipBytes(remaining);
+      if (skipped <= 0) {
+        in.readByte();
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+
+  private static String className(String internalName) {
+    return internalName.replace('/', '.');
+  }
+
+  String getSuperName() {
+    return superName;
+  }
+
+  List<String> getInterfaceNames() {
+    return interfaceNames;
+  }
+
+  List<String> getAnnotationNames() {
+    return annotationNames;
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor that writes the {@value ResolverUtil#INDEX_RESOURCE} index of the compiled classes, which
+ * {@link ResolverUtil} reads instead of listing the packages from the class path.
+ * <p>
+ * The processor is not registered as a service, it has to be enabled explicitly, for instance with
+ * {@code javac -processor org.apache.ibatis.io.ResolverIndexProcessor}. Local and anonymous classes are not indexed.
+ * The classes of an existing index are kept while their class file exists, so that incremental builds, which compile
+ * only some of the classes, still write the complete index of the output directory.
+ *
+ * @since 3.5.10
+ */
+public class ResolverIndexProcessor extends AbstractProcessor {
+
+  private final Set<String> classes = new TreeSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton("*");
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getRootElements()) {
+      if (element instanceof TypeElement) {
+        addClass((TypeElement) element);
+      }
+    }
+    if (roundEnv.processingOver()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  private void addClass(TypeElement type) {
+    classes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+    for (Element member : type.getEnclosedElements()) {
+      if (member instanceof TypeElement) {
+        addClass((TypeElement) member);
+      }
+    }
+  }
+
+  private void writeIndex() {
+    readPreviousIndex();
+    try (Writer writer = new OutputStreamWriter(processingEnv.getFiler()
+        .createResource(StandardLocation.CLASS_OUTPUT, "", ResolverUtil.INDEX_RESOURCE).openOutputStream(),
+        StandardCharsets.UTF_8)) {
+      for (String className : classes) {
+        writer.write(className);
+        writer.write('\n');
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Could not write " + ResolverUtil.INDEX_RESOURCE + ": " + e);
+    }
+  }
+
+  /*
+   * An incremental build only compiles some of the classes, so the classes indexed by a previous build are kept as long
+   * as their class file is still there.
+   */
+  private void readPreviousIndex() {
+    Filer filer = processingEnv.getFiler();
+    FileObject index;
+    try {
+      index = filer.getResource(StandardLocation.CLASS_OUTPUT, "", ResolverUtil.INDEX_RESOURCE);
+    } catch (IOException | IllegalArgumentException e) {
+      return;
+    }
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(index.openInputStream(), StandardCharsets.UTF_8))) {
+      for (String line; (line = reader.readLine()) != null;) {
+        line = line.trim();
+        if (!line.isEmpty() && !line.startsWith("#") && !classes.contains(line) && hasClassFile(filer, line)) {
+          classes.add(line);
+        }
+      }
+    } catch (IOException e) {
+      // no previous index
+    }
+  }
+
+  private boolean hasClassFile(Filer filer, String className) {
+    try {
+      return filer.getResource(StandardLocation.CLASS_OUTPUT, "", className.replace('.', '/') + ".class")
+          .getLastModified() != 0;
+    } catch (IOException | IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+}
@@ -15,14 +15,27 @@
  */
 package org.apache.ibatis.io;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.apache.ibatis.logging.Log;
 import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.util.MapUtil;
 
 /**
  * <p>ResolverUtil is used to locate classes that are available in the/a class path and meet
@@ -37,6 +50,11 @@ import org.apache.ibatis.logging.LogFactory;
  * by calling {@link #setClassLoader(ClassLoader)} prior to invoking any of the {@code find()}
  * methods.</p>
  *
+ * <p>When a directory or a jar of the class path holds a {@value #INDEX_RESOURCE} resource listing its classes, for
+ * instance generated at build time with {@link ResolverIndexProcessor}, the classes of that location are taken from the
+ * index instead of being listed, while the other locations are listed as before. Before a class is loaded to be checked
+ * by an {@link IsA} or an {@link AnnotatedWith} test, its class file is read to skip the classes that cannot match.</p>
+ *
  * <p>General searches are initiated by calling the {@link #find(Test, String)} and supplying
  * a package name and a Test instance. This will cause the named package <b>and all sub-packages</b>
  * to be scanned for classes that meet the test. There are also utility methods for the common
@@ -64,6 +82,19 @@ public class ResolverUtil<T> {
    */
   private static final Log log = LogFactory.getLog(ResolverUtil.class);
 
+  /**
+   * The indexed classes of each class loader, by the class path location of their index.
+   */
+  private static final Map<ClassLoader, Map<String, Set<String>>> INDEXES = Collections
+      .synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * The class path resource listing the binary names of indexed classes, one per line.
+   *
+   * @since 3.5.10
+   */
+  public static final String INDEX_RESOURCE = "META-INF/mybatis/index";
+
   /**
    * A simple interface that specifies how to test classes to determine if they
    * are to be included in the results produced by the ResolverUtil.
@@ -152,6 +183,9 @@ public class ResolverUtil<T> {
    */
   private ClassLoader classloader;
 
+  /** The class file headers read during the searches. */
+  private final Map<String, ClassFileHeader> headers = new HashMap<>();
+
   /**
    * Provides access to the classes discovered so far. If no calls have been made to
    * any of the {@code find()} methods, this set will be empty.
@@ -246,10 +280,32 @@ public class ResolverUtil<T> {
     String path = getPackagePath(packageName);
 
     try {
-      List<String> children = VFS.getInstance().list(path);
-      for (String child : children) {
-        if (child.endsWith(".class")) {
-          addIfMatching(test, child);
+      Map<String, Set<String>> index = getIndex();
+      if (index.isEmpty()) {
+        for (String child : VFS.getInstance().list(path)) {
+          if (child.endsWith(".class")) {
+            addIfMatching(test, child);
+          }
+        }
+        return this;
+      }
+      // the index of a location lists all of its classes, the other locations are still listed
+      String prefix = packageName + ".";
+      for (Set<String> indexedClasses : index.values()) {
+        for (String indexedClass : indexedClasses) {
+          if (indexedClass.startsWith(prefix)) {
+            addIfMatching(test, indexedClass.replace('.', '/') + ".class");
+          }
+        }
+      }
+      VFS vfs = VFS.getInstance();
+      for (URL url : Collections.list(getClassLoader().getResources(path))) {
+        if (!index.containsKey(getLocation(url, path))) {
+          for (String child : vfs.list(url, path)) {
+            if (child.endsWith(".class")) {
+              addIfMatching(test, child);
+            }
+          }
         }
       }
     } catch (IOException ioe) {
@@ -271,6 +327,44 @@ public class ResolverUtil<T> {
     return packageName == null ? null : packageName.replace('.', '/');
   }
 
+  private Map<String, Set<String>> getIndex() {
+    return MapUtil.computeIfAbsent(INDEXES, getClassLoader(), ResolverUtil::readIndex);
+  }
+
+  private static Map<String, Set<String>> readIndex(ClassLoader loader) {
+    Map<String, Set<String>> index = new HashMap<>();
+    try {
+      Enumeration<URL> urls = loader.getResources(INDEX_RESOURCE);
+      while (urls.hasMoreElements()) {
+        URL url = urls.nextElement();
+        Set<String> classes = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+          for (String line; (line = reader.readLine()) != null;) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+              classes.add(line);
+            }
+          }
+        }
+        index.put(getLocation(url, INDEX_RESOURCE), classes);
+      }
+    } catch (IOException e) {
+      log.error("Could not read class index: " + INDEX_RESOURCE, e);
+    }
+    return index;
+  }
+
+  /*
+   * Returns the class path location, a directory or a jar, of a resource found at the given path.
+   */
+  private static String getLocation(URL url, String path) {
+    String location = url.toString();
+    if (location.endsWith("/")) {
+      location = location.substring(0, location.length() - 1);
+    }
+    return location.endsWith(path) ? location.substring(0, location.length() - path.length()) : location;
+  }
+
   /**
    * Add the class designated by the fully qualified class name provided to the set of
    * resolved classes if and only if it is approved by the Test supplied.
@@ -287,6 +381,10 @@ public class ResolverUtil<T> {
         log.debug("Checking to see if class " + externalName + " matches criteria [" + test + "]");
       }
 
+      if (!mayMatch(test, externalName)) {
+        return;
+      }
+
       Class<?> type = loader.loadClass(externalName);
       if (test.matches(type)) {
         matches.add((Class<T>) type);
@@ -296,4 +394,67 @@ public class ResolverUtil<T> {
           + t.getClass().getName() + " with message: " + t.getMessage());
     }
   }
+
+  /*
+   * Tells, from the class files only, whether a class may match an IsA or an AnnotatedWith test.
+   * A class that cannot be told apart this way is loaded and checked as any other.
+   */
+  private boolean mayMatch(Test test, String className) {
+    if (test.getClass() == IsA.class) {
+      Class<?> parent = ((IsA) test).parent;
+      return parent == Object.class || isAssignable(className, parent.getName()) != Boolean.FALSE;
+    } else if (test.getClass() == AnnotatedWith.class) {
+      Class<? extends Annotation> annotation = ((AnnotatedWith) test).annotation;
+      return isAnnotated(className, annotation.getName(), annotation.isAnnotationPresent(Inherited.class)) != Boolean.FALSE;
+    }
+    return true;
+  }
+
+  private Boolean isAssignable(String className, String parentName) {
+    if (className.equals(parentName)) {
+      return Boolean.TRUE;
+    }
+    if (className.startsWith("java.") && !parentName.startsWith("java.")) {
+      return Boolean.FALSE;
+    }
+    ClassFileHeader header = getHeader(className);
+    if (header == null) {
+      return null;
+    }
+    List<String> superNames = new ArrayList<>(header.getInterfaceNames());
+    if (header.getSuperName() != null) {
+      superNames.add(header.getSuperName());
+    }
+    Boolean assignable = Boolean.FALSE;
+    for (String superName : superNames) {
+      Boolean superAssignable = isAssignable(superName, parentName);
+      if (superAssignable == Boolean.TRUE) {
+        return Boolean.TRUE;
+      } else if (superAssignable == null) {
+        assignable = null;
+      }
+    }
+    return assignable;
+  }
+
+  private Boolean isAnnotated(String className, String annotationName, boolean inherited) {
+    if (className.startsWith("java.")) {
+      return Boolean.FALSE;
+    }
+    ClassFileHeader header = getHeader(className);
+    if (header == null) {
+      return null;
+    }
+    if (header.getAnnotationNames().contains(annotationName)) {
+      return Boolean.TRUE;
+    }
+    if (!inherited || header.getSuperName() == null) {
+      return Boolean.FALSE;
+    }
+    return isAnnotated(header.getSuperName(), annotationName, true);
+  }
+
+  private ClassFileHeader getHeader(String className) {
+    return headers.computeIfAbsent(className, name -> ClassFileHeader.read(getClassLoader(), name));
+  }
 }
@@ -27,6 +27,10 @@ import org.apache.ibatis.reflection.ExceptionUtil;
 
 /**
  * Connection proxy to add logging.
+ * <p>
+ * Unlike the statement and result set wrappers, the connection stays a dynamic proxy: it is called only a few times per
+ * statement, and a proxy also forwards the methods added to {@link Connection} by later JDBC versions (e.g. the sharding
+ * key methods), whose types cannot be referenced from this code base.
  *
  * @author Clinton Begin
  * @author Eduardo Macarron
@@ -35,10 +39,12 @@ import org.apache.ibatis.reflection.ExceptionUtil;
 public final class ConnectionLogger extends BaseJdbcLogger implements InvocationHandler {
 
   private final Connection connection;
+  private final long slowStatementThreshold;
 
-  private ConnectionLogger(Connection conn, Log statementLog, int queryStack) {
+  private ConnectionLogger(Connection conn, Log statementLog, int queryStack, long slowStatementThreshold) {
     super(statementLog, queryStack);
     this.connection = conn;
+    this.slowStatementThreshold = slowStatementThreshold;
   }
 
   @Override
@@ -49,16 +55,15 @@ public final class ConnectionLogger extends BaseJdbcLogger implements Invocation
         return method.invoke(this, params);
       }
       if ("prepareStatement".equals(method.getName()) || "prepareCall".equals(method.getName())) {
-        if (isDebugEnabled()) {
-          debug(" Preparing: " + removeExtraWhitespace((String) params[0]), true);
+        String sql = (String) params[0];
+        if (slowStatementThreshold <= 0 && isDebugEnabled()) {
+          debug(" Preparing: " + removeExtraWhitespace(sql), true);
         }
         PreparedStatement stmt = (PreparedStatement) method.invoke(connection, params);
-        stmt = PreparedStatementLogger.newInstance(stmt, statementLog, queryStack);
-        return stmt;
+        return PreparedStatementLogger.newInstance(stmt, statementLog, queryStack, sql, slowStatementThreshold);
       } else if ("createStatement".equals(method.getName())) {
         Statement stmt = (Statement) method.invoke(connection, params);
-        stmt = StatementLogger.newInstance(stmt, statementLog, queryStack);
-        return stmt;
+        return StatementLogger.newInstance(stmt, statementLog, queryStack, slowStatementThreshold);
       } else {
         return method.invoke(connection, params);
       }
@@ -79,7 +84,28 @@ public final class ConnectionLogger extends BaseJdbcLogger implements Invocation
    * @return the connection with logging
    */
   public static Connection newInstance(Connection conn, Log statementLog, int queryStack) {
-    InvocationHandler handler = new ConnectionLogger(conn, statementLog, queryStack);
+    return newInstance(conn, statementLog, queryStack, 0);
+  }
+
+  /**
+   * Creates a logging version of a connection that only logs the statements running at least the given time.
+   * <p>
+   * The statement and its parameters are logged after the execution, followed by the elapsed time. The rows of a
+   * faster statement are not logged either.
+   *
+   * @param conn
+   *          the original connection
+   * @param statementLog
+   *          the statement log
+   * @param queryStack
+   *          the query stack
+   * @param slowStatementThreshold
+   *          the minimum execution time in milliseconds of a logged statement, 0 logs every statement
+   * @return the connection with logging
+   * @since 3.5.10
+   */
+  public static Connection newInstance(Connection conn, Log statementLog, int queryStack, long slowStatementThreshold) {
+    InvocationHandler handler = new ConnectionLogger(conn, statementLog, queryStack, slowStatementThreshold);
     ClassLoader cl = Connection.class.getClassLoader();
     return (Connection) Proxy.newProxyInstance(cl, new Class[]{Connection.class}, handler);
   }
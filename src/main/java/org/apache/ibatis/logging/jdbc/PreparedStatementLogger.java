@@ -15,94 +15,325 @@
  */
 package org.apache.ibatis.logging.jdbc;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 
 import org.apache.ibatis.logging.Log;
-import org.apache.ibatis.reflection.ExceptionUtil;
 
 /**
- * PreparedStatement proxy to add logging.
+ * PreparedStatement wrapper to add logging.
  *
  * @author Clinton Begin
  * @author Eduardo Macarron
  *
  */
-public final class PreparedStatementLogger extends BaseJdbcLogger implements InvocationHandler {
+public final class PreparedStatementLogger extends BaseJdbcLogger {
 
   private final PreparedStatement statement;
+  private final String sql;
+  private final long slowStatementThreshold;
+  private long executionStart;
+  private boolean logged;
 
-  private PreparedStatementLogger(PreparedStatement stmt, Log statementLog, int queryStack) {
+  private PreparedStatementLogger(PreparedStatement stmt, Log statementLog, int queryStack, String sql,
+      long slowStatementThreshold) {
     super(statementLog, queryStack);
     this.statement = stmt;
+    this.sql = sql;
+    this.slowStatementThreshold = slowStatementThreshold;
+    this.logged = !isDeferred();
   }
 
-  @Override
-  public Object invoke(Object proxy, Method method, Object[] params) throws Throwable {
-    try {
-      if (Object.class.equals(method.getDeclaringClass())) {
-        return method.invoke(this, params);
-      }
-      if (EXECUTE_METHODS.contains(method.getName())) {
-        if (isDebugEnabled()) {
-          debug("Parameters: " + getParameterValueString(), true);
-        }
-        clearColumnInfo();
-        if ("executeQuery".equals(method.getName())) {
-          ResultSet rs = (ResultSet) method.invoke(statement, params);
-          return rs == null ? null : ResultSetLogger.newInstance(rs, statementLog, queryStack);
-        } else {
-          return method.invoke(statement, params);
-        }
-      } else if (SET_METHODS.contains(method.getName())) {
-        if ("setNull".equals(method.getName())) {
-          setColumn(params[0], null);
-        } else {
-          setColumn(params[0], params[1]);
-        }
-        return method.invoke(statement, params);
-      } else if ("getResultSet".equals(method.getName())) {
-        ResultSet rs = (ResultSet) method.invoke(statement, params);
-        return rs == null ? null : ResultSetLogger.newInstance(rs, statementLog, queryStack);
-      } else if ("getUpdateCount".equals(method.getName())) {
-        int updateCount = (Integer) method.invoke(statement, params);
-        if (updateCount != -1) {
-          debug("   Updates: " + updateCount, false);
-        }
-        return updateCount;
-      } else {
-        return method.invoke(statement, params);
+  private boolean isDeferred() {
+    return slowStatementThreshold > 0 && sql != null;
+  }
+
+  private void beforeExecute() {
+    if (isDeferred()) {
+      executionStart = System.nanoTime();
+    } else {
+      if (isDebugEnabled()) {
+        debug("Parameters: " + getParameterValueString(), true);
       }
-    } catch (Throwable t) {
-      throw ExceptionUtil.unwrapThrowable(t);
+      clearColumnInfo();
     }
   }
 
+  private void afterExecute() {
+    if (!isDeferred()) {
+      return;
+    }
+    long elapsed = elapsedMillis();
+    logged = elapsed >= slowStatementThreshold;
+    if (logged) {
+      debug(" Preparing: " + removeExtraWhitespace(sql), true);
+      debug("Parameters: " + getParameterValueString(), true);
+      debug("   Elapsed: " + elapsed + " ms", false);
+    }
+    clearColumnInfo();
+  }
+
+  private long elapsedMillis() {
+    return (System.nanoTime() - executionStart) / 1_000_000L;
+  }
+
+  private ResultSet resultSet(ResultSet rs) {
+    return rs == null || !logged ? rs : ResultSetLogger.newInstance(rs, statementLog, queryStack);
+  }
+
   /**
    * Creates a logging version of a PreparedStatement.
    *
    * @param stmt - the statement
    * @param statementLog - the statement log
    * @param queryStack - the query stack
-   * @return - the proxy
+   * @return - the statement with logging
    */
   public static PreparedStatement newInstance(PreparedStatement stmt, Log statementLog, int queryStack) {
-    InvocationHandler handler = new PreparedStatementLogger(stmt, statementLog, queryStack);
-    ClassLoader cl = PreparedStatement.class.getClassLoader();
-    return (PreparedStatement) Proxy.newProxyInstance(cl, new Class[]{PreparedStatement.class, CallableStatement.class}, handler);
+    return newInstance(stmt, statementLog, queryStack, null, 0);
+  }
+
+  static CallableStatement newInstance(PreparedStatement stmt, Log statementLog, int queryStack, String sql,
+      long slowStatementThreshold) {
+    return new PreparedStatementLogger(stmt, statementLog, queryStack, sql, slowStatementThreshold).new LoggingStatement();
   }
 
   /**
    * Return the wrapped prepared statement.
    *
    * @return the PreparedStatement
+   * @deprecated Since 3.5.10, this method is deprecated. The statement returned by
+   *             {@link #newInstance(PreparedStatement, Log, int)} is no longer a {@link java.lang.reflect.Proxy} of this
+   *             logger, so the logger cannot be reached from it. Please call
+   *             {@link PreparedStatement#unwrap(Class)} on the statement instead.
    */
+  @Deprecated
   public PreparedStatement getPreparedStatement() {
     return statement;
   }
 
+  private class LoggingStatement extends DelegatingPreparedStatement {
+
+    LoggingStatement() {
+      super(statement);
+    }
+
+    @Override
+    protected void beforeSetParameter(Object key, Object value) {
+      setColumn(key, value);
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+      beforeExecute();
+      boolean result = delegate.execute();
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+      beforeExecute();
+      boolean result = delegate.execute(sql);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+      beforeExecute();
+      boolean result = delegate.execute(sql, autoGeneratedKeys);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+      beforeExecute();
+      boolean result = delegate.execute(sql, columnIndexes);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+      beforeExecute();
+      boolean result = delegate.execute(sql, columnNames);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+      beforeExecute();
+      int result = delegate.executeUpdate();
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+      beforeExecute();
+      int result = delegate.executeUpdate(sql);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+      beforeExecute();
+      int result = delegate.executeUpdate(sql, autoGeneratedKeys);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+      beforeExecute();
+      int result = delegate.executeUpdate(sql, columnIndexes);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+      beforeExecute();
+      int result = delegate.executeUpdate(sql, columnNames);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+      beforeExecute();
+      ResultSet rs = delegate.executeQuery();
+      afterExecute();
+      return resultSet(rs);
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+      beforeExecute();
+      ResultSet rs = delegate.executeQuery(sql);
+      afterExecute();
+      return resultSet(rs);
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+      if (isDeferred()) {
+        clearColumnInfo();
+      } else {
+        beforeExecute();
+      }
+      delegate.addBatch();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+      if (isDeferred()) {
+        clearColumnInfo();
+      } else {
+        beforeExecute();
+      }
+      delegate.addBatch(sql);
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+      beforeExecute();
+      long result = delegate.executeLargeUpdate();
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+      beforeExecute();
+      long result = delegate.executeLargeUpdate(sql);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+      beforeExecute();
+      long result = delegate.executeLargeUpdate(sql, autoGeneratedKeys);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+      beforeExecute();
+      long result = delegate.executeLargeUpdate(sql, columnIndexes);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+      beforeExecute();
+      long result = delegate.executeLargeUpdate(sql, columnNames);
+      afterExecute();
+      return result;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+      if (!isDeferred()) {
+        return delegate.executeBatch();
+      }
+      executionStart = System.nanoTime();
+      int[] result = delegate.executeBatch();
+      afterExecuteBatch(result.length);
+      return result;
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+      if (!isDeferred()) {
+        return delegate.executeLargeBatch();
+      }
+      executionStart = System.nanoTime();
+      long[] result = delegate.executeLargeBatch();
+      afterExecuteBatch(result.length);
+      return result;
+    }
+
+    private void afterExecuteBatch(int batches) {
+      long elapsed = elapsedMillis();
+      if (elapsed >= slowStatementThreshold) {
+        debug(" Preparing: " + removeExtraWhitespace(PreparedStatementLogger.this.sql), true);
+        debug("   Batches: " + batches, false);
+        debug("   Elapsed: " + elapsed + " ms", false);
+      }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+      return resultSet(delegate.getResultSet());
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+      int updateCount = delegate.getUpdateCount();
+      if (updateCount != -1 && logged) {
+        debug("   Updates: " + updateCount, false);
+      }
+      return updateCount;
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+      long updateCount = delegate.getLargeUpdateCount();
+      if (updateCount != -1 && logged) {
+        debug("   Updates: " + updateCount, false);
+      }
+      return updateCount;
+    }
+  }
+
 }
@@ -15,9 +15,6 @@
  */
 package org.apache.ibatis.logging.jdbc;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -27,16 +24,15 @@ import java.util.Set;
 import java.util.StringJoiner;
 
 import org.apache.ibatis.logging.Log;
-import org.apache.ibatis.reflection.ExceptionUtil;
 
 /**
- * ResultSet proxy to add logging.
+ * ResultSet wrapper to add logging.
  *
  * @author Clinton Begin
  * @author Eduardo Macarron
  *
  */
-public final class ResultSetLogger extends BaseJdbcLogger implements InvocationHandler {
+public final class ResultSetLogger extends BaseJdbcLogger {
 
   private static final Set<Integer> BLOB_TYPES = new HashSet<>();
   private boolean first = true;
@@ -60,33 +56,20 @@ public final class ResultSetLogger extends BaseJdbcLogger implements InvocationH
     this.rs = rs;
   }
 
-  @Override
-  public Object invoke(Object proxy, Method method, Object[] params) throws Throwable {
-    try {
-      if (Object.class.equals(method.getDeclaringClass())) {
-        return method.invoke(this, params);
-      }
-      Object o = method.invoke(rs, params);
-      if ("next".equals(method.getName())) {
-        if ((Boolean) o) {
-          rows++;
-          if (isTraceEnabled()) {
-            ResultSetMetaData rsmd = rs.getMetaData();
-            final int columnCount = rsmd.getColumnCount();
-            if (first) {
-              first = false;
-              printColumnHeaders(rsmd, columnCount);
-            }
-            printColumnValues(columnCount);
-          }
-        } else {
-          debug("     Total: " + rows, false);
+  private void next(boolean hasNext) throws SQLException {
+    if (hasNext) {
+      rows++;
+      if (isTraceEnabled()) {
+        ResultSetMetaData rsmd = rs.getMetaData();
+        final int columnCount = rsmd.getColumnCount();
+        if (first) {
+          first = false;
+          printColumnHeaders(rsmd, columnCount);
         }
+        printColumnValues(columnCount);
       }
-      clearColumnInfo();
-      return o;
-    } catch (Throwable t) {
-      throw ExceptionUtil.unwrapThrowable(t);
+    } else {
+      debug("     Total: " + rows, false);
     }
   }
 
@@ -122,7 +105,7 @@ public final class ResultSetLogger extends BaseJdbcLogger implements InvocationH
    * Creates a logging version of a ResultSet.
    *
    * @param rs
-   *          the ResultSet to proxy
+   *          the ResultSet to wrap
    * @param statementLog
    *          the statement log
    * @param queryStack
@@ -130,18 +113,35 @@ public final class ResultSetLogger extends BaseJdbcLogger implements InvocationH
    * @return the ResultSet with logging
    */
   public static ResultSet newInstance(ResultSet rs, Log statementLog, int queryStack) {
-    InvocationHandler handler = new ResultSetLogger(rs, statementLog, queryStack);
-    ClassLoader cl = ResultSet.class.getClassLoader();
-    return (ResultSet) Proxy.newProxyInstance(cl, new Class[]{ResultSet.class}, handler);
+    return new ResultSetLogger(rs, statementLog, queryStack).new LoggingResultSet();
   }
 
   /**
    * Get the wrapped result set.
    *
    * @return the resultSet
+   * @deprecated Since 3.5.10, this method is deprecated. The result set returned by
+   *             {@link #newInstance(ResultSet, Log, int)} is no longer a {@link java.lang.reflect.Proxy} of this logger,
+   *             so the logger cannot be reached from it. Please call {@link ResultSet#unwrap(Class)} on the result set
+   *             instead.
    */
+  @Deprecated
   public ResultSet getRs() {
     return rs;
   }
 
+  private class LoggingResultSet extends DelegatingResultSet {
+
+    LoggingResultSet() {
+      super(rs);
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+      boolean hasNext = delegate.next();
+      ResultSetLogger.this.next(hasNext);
+      return hasNext;
+    }
+  }
+
 }
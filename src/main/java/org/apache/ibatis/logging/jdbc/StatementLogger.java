@@ -15,58 +15,57 @@
  */
 package org.apache.ibatis.logging.jdbc;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 
 import org.apache.ibatis.logging.Log;
-import org.apache.ibatis.reflection.ExceptionUtil;
 
 /**
- * Statement proxy to add logging.
+ * Statement wrapper to add logging.
  *
  * @author Clinton Begin
  * @author Eduardo Macarron
  *
  */
-public final class StatementLogger extends BaseJdbcLogger implements InvocationHandler {
+public final class StatementLogger extends BaseJdbcLogger {
 
   private final Statement statement;
+  private final long slowStatementThreshold;
+  private long executionStart;
+  private boolean logged;
 
-  private StatementLogger(Statement stmt, Log statementLog, int queryStack) {
+  private StatementLogger(Statement stmt, Log statementLog, int queryStack, long slowStatementThreshold) {
     super(statementLog, queryStack);
     this.statement = stmt;
+    this.slowStatementThreshold = slowStatementThreshold;
+    this.logged = slowStatementThreshold <= 0;
   }
 
-  @Override
-  public Object invoke(Object proxy, Method method, Object[] params) throws Throwable {
-    try {
-      if (Object.class.equals(method.getDeclaringClass())) {
-        return method.invoke(this, params);
-      }
-      if (EXECUTE_METHODS.contains(method.getName())) {
-        if (isDebugEnabled()) {
-          debug(" Executing: " + removeExtraWhitespace((String) params[0]), true);
-        }
-        if ("executeQuery".equals(method.getName())) {
-          ResultSet rs = (ResultSet) method.invoke(statement, params);
-          return rs == null ? null : ResultSetLogger.newInstance(rs, statementLog, queryStack);
-        } else {
-          return method.invoke(statement, params);
-        }
-      } else if ("getResultSet".equals(method.getName())) {
-        ResultSet rs = (ResultSet) method.invoke(statement, params);
-        return rs == null ? null : ResultSetLogger.newInstance(rs, statementLog, queryStack);
-      } else {
-        return method.invoke(statement, params);
-      }
-    } catch (Throwable t) {
-      throw ExceptionUtil.unwrapThrowable(t);
+  private void beforeExecute(String sql) {
+    if (slowStatementThreshold > 0) {
+      executionStart = System.nanoTime();
+    } else if (isDebugEnabled()) {
+      debug(" Executing: " + removeExtraWhitespace(sql), true);
+    }
+  }
+
+  private void afterExecute(String sql) {
+    if (slowStatementThreshold <= 0) {
+      return;
+    }
+    long elapsed = (System.nanoTime() - executionStart) / 1_000_000L;
+    logged = elapsed >= slowStatementThreshold;
+    if (logged) {
+      debug(" Executing: " + removeExtraWhitespace(sql), true);
+      debug("   Elapsed: " + elapsed + " ms", false);
     }
   }
 
+  private ResultSet resultSet(ResultSet rs) {
+    return rs == null || !logged ? rs : ResultSetLogger.newInstance(rs, statementLog, queryStack);
+  }
+
   /**
    * Creates a logging version of a Statement.
    *
@@ -76,21 +75,152 @@ public final class StatementLogger extends BaseJdbcLogger implements InvocationH
    *          the statement log
    * @param queryStack
    *          the query stack
-   * @return the proxy
+   * @return the statement with logging
    */
   public static Statement newInstance(Statement stmt, Log statementLog, int queryStack) {
-    InvocationHandler handler = new StatementLogger(stmt, statementLog, queryStack);
-    ClassLoader cl = Statement.class.getClassLoader();
-    return (Statement) Proxy.newProxyInstance(cl, new Class[]{Statement.class}, handler);
+    return newInstance(stmt, statementLog, queryStack, 0);
+  }
+
+  static Statement newInstance(Statement stmt, Log statementLog, int queryStack, long slowStatementThreshold) {
+    return new StatementLogger(stmt, statementLog, queryStack, slowStatementThreshold).new LoggingStatement();
   }
 
   /**
    * return the wrapped statement.
    *
    * @return the statement
+   * @deprecated Since 3.5.10, this method is deprecated. The statement returned by
+   *             {@link #newInstance(Statement, Log, int)} is no longer a {@link java.lang.reflect.Proxy} of this logger,
+   *             so the logger cannot be reached from it. Please call {@link Statement#unwrap(Class)} on the statement
+   *             instead.
    */
+  @Deprecated
   public Statement getStatement() {
     return statement;
   }
 
+  private class LoggingStatement extends DelegatingStatement<Statement> {
+
+    LoggingStatement() {
+      super(statement);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+      beforeExecute(sql);
+      boolean result = delegate.execute(sql);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+      beforeExecute(sql);
+      boolean result = delegate.execute(sql, autoGeneratedKeys);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+      beforeExecute(sql);
+      boolean result = delegate.execute(sql, columnIndexes);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+      beforeExecute(sql);
+      boolean result = delegate.execute(sql, columnNames);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+      beforeExecute(sql);
+      int result = delegate.executeUpdate(sql);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+      beforeExecute(sql);
+      int result = delegate.executeUpdate(sql, autoGeneratedKeys);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+      beforeExecute(sql);
+      int result = delegate.executeUpdate(sql, columnIndexes);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+      beforeExecute(sql);
+      int result = delegate.executeUpdate(sql, columnNames);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+      beforeExecute(sql);
+      long result = delegate.executeLargeUpdate(sql);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+      beforeExecute(sql);
+      long result = delegate.executeLargeUpdate(sql, autoGeneratedKeys);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+      beforeExecute(sql);
+      long result = delegate.executeLargeUpdate(sql, columnIndexes);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+      beforeExecute(sql);
+      long result = delegate.executeLargeUpdate(sql, columnNames);
+      afterExecute(sql);
+      return result;
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+      beforeExecute(sql);
+      ResultSet rs = delegate.executeQuery(sql);
+      afterExecute(sql);
+      return resultSet(rs);
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+      if (slowStatementThreshold <= 0) {
+        beforeExecute(sql);
+      }
+      delegate.addBatch(sql);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+      return resultSet(delegate.getResultSet());
+    }
+  }
+
 }
@@ -61,8 +61,18 @@ public class BoundSql {
     return parameterObject;
   }
 
+  /**
+   * Returns the additional parameters, set while the sql was generated or with {@link #setAdditionalParameter}.
+   *
+   * @return the additional parameters by name
+   * @since 3.5.10
+   */
+  public Map<String, Object> getAdditionalParameters() {
+    return additionalParameters;
+  }
+
   public boolean hasAdditionalParameter(String name) {
-    String paramName = new PropertyTokenizer(name).getName();
+    String paramName = PropertyTokenizer.forPath(name).getName();
     return additionalParameters.containsKey(paramName);
   }
 
@@ -56,6 +56,7 @@ public final class MappedStatement {
   private Log statementLog;
   private LanguageDriver lang;
   private String[] resultSets;
+  private String[] cacheTags;
 
   MappedStatement() {
     // constructor disabled
@@ -174,6 +175,17 @@ public final class MappedStatement {
       return this;
     }
 
+    public Builder cacheTags(String cacheTags) {
+      String[] tags = delimitedStringToArray(cacheTags);
+      if (tags != null) {
+        for (int i = 0; i < tags.length; i++) {
+          tags[i] = tags[i].trim();
+        }
+      }
+      mappedStatement.cacheTags = tags;
+      return this;
+    }
+
     /**
      * Resul sets.
      *
@@ -290,6 +302,10 @@ public final class MappedStatement {
     return resultSets;
   }
 
+  public String[] getCacheTags() {
+    return cacheTags;
+  }
+
   /**
    * Gets the resul sets.
    *
@@ -49,6 +49,7 @@ public class ResultMap {
   private boolean hasNestedResultMaps;
   private boolean hasNestedQueries;
   private Boolean autoMapping;
+  private boolean resultOrdered;
 
   private ResultMap() {
   }
@@ -75,6 +76,19 @@ public class ResultMap {
       return this;
     }
 
+    /**
+     * Sets whether the rows mapped by the result map are grouped by its id columns.
+     *
+     * @param resultOrdered
+     *          the result ordered
+     * @return the builder
+     * @since 3.5.10
+     */
+    public Builder resultOrdered(boolean resultOrdered) {
+      resultMap.resultOrdered = resultOrdered;
+      return this;
+    }
+
     public Class<?> type() {
       return resultMap.type;
     }
@@ -254,6 +268,18 @@ public class ResultMap {
     hasNestedResultMaps = true;
   }
 
+  /**
+   * Returns whether the rows mapped by this result map are grouped by its id columns, in which case each object is
+   * handed to the result handler as soon as the rows of the next one start, as with a statement declared with
+   * {@code resultOrdered=true}.
+   *
+   * @return true if the rows are grouped by the id columns
+   * @since 3.5.10
+   */
+  public boolean isResultOrdered() {
+    return resultOrdered;
+  }
+
   public Boolean getAutoMapping() {
     return autoMapping;
   }
@@ -19,8 +19,11 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.regex.Pattern;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -46,6 +49,8 @@ import org.xml.sax.SAXParseException;
  */
 public class XPathParser {
 
+  private static final Pattern CHILD_PATH = Pattern.compile("/?[A-Za-z_][\\w.-]*(/[A-Za-z_][\\w.-]*)*|[A-Za-z_][\\w.-]*(\\|[A-Za-z_][\\w.-]*)+");
+
   private final Document document;
   private boolean validation;
   private EntityResolver entityResolver;
@@ -200,6 +205,12 @@ public class XPathParser {
 
   public List<XNode> evalNodes(Object root, String expression) {
     List<XNode> xnodes = new ArrayList<>();
+    if (root instanceof Node && isChildPath(expression)) {
+      for (Node node : selectChildPath((Node) root, expression)) {
+        xnodes.add(new XNode(this, node, variables));
+      }
+      return xnodes;
+    }
     NodeList nodes = (NodeList) evaluate(expression, root, XPathConstants.NODESET);
     for (int i = 0; i < nodes.getLength(); i++) {
       xnodes.add(new XNode(this, nodes.item(i), variables));
@@ -212,14 +223,60 @@ public class XPathParser {
   }
 
   public XNode evalNode(Object root, String expression) {
-    Node node = (Node) evaluate(expression, root, XPathConstants.NODE);
+    Node node;
+    if (root instanceof Node && isChildPath(expression)) {
+      List<Node> nodes = selectChildPath((Node) root, expression);
+      node = nodes.isEmpty() ? null : nodes.get(0);
+    } else {
+      node = (Node) evaluate(expression, root, XPathConstants.NODE);
+    }
     if (node == null) {
       return null;
     }
     return new XNode(this, node, variables);
   }
 
+  /*
+   * Expressions like "/mapper/resultMap" or "select|insert|update|delete", that only select child elements
+   * by name, are common enough in the builders to be worth selecting without the XPath engine.
+   */
+  private static boolean isChildPath(String expression) {
+    return CHILD_PATH.matcher(expression).matches();
+  }
+
+  private static List<Node> selectChildPath(Node root, String expression) {
+    List<Node> current = new ArrayList<>();
+    if (expression.startsWith("/")) {
+      current.add(root.getNodeType() == Node.DOCUMENT_NODE ? root : root.getOwnerDocument());
+      expression = expression.substring(1);
+    } else {
+      current.add(root);
+    }
+    if (expression.indexOf('|') >= 0) {
+      return selectChildren(current, Arrays.asList(expression.split("\\|")));
+    }
+    for (String step : expression.split("/")) {
+      current = selectChildren(current, Collections.singletonList(step));
+    }
+    return current;
+  }
+
+  private static List<Node> selectChildren(List<Node> parents, List<String> names) {
+    List<Node> children = new ArrayList<>();
+    for (Node parent : parents) {
+      for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+        if (child.getNodeType() == Node.ELEMENT_NODE && names.contains(child.getNodeName())) {
+          children.add(child);
+        }
+      }
+    }
+    return children;
+  }
+
   private Object evaluate(String expression, Object root, QName returnType) {
+    if (xpath == null) {
+      xpath = XPathFactory.newInstance().newXPath();
+    }
     try {
       return xpath.evaluate(expression, root, returnType);
     } catch (Exception e) {
@@ -268,8 +325,6 @@ public class XPathParser {
     this.validation = validation;
     this.entityResolver = entityResolver;
     this.variables = variables;
-    XPathFactory factory = XPathFactory.newInstance();
-    this.xpath = factory.newXPath();
   }
 
 }
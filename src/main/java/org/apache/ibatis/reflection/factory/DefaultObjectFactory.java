@@ -15,7 +15,12 @@
  */
 package org.apache.ibatis.reflection.factory;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -28,8 +33,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.lang.UsesJava8;
 import org.apache.ibatis.reflection.ReflectionException;
 import org.apache.ibatis.reflection.Reflector;
 
@@ -40,6 +47,9 @@ public class DefaultObjectFactory implements ObjectFactory, Serializable {
 
   private static final long serialVersionUID = -8855120656740914948L;
 
+  // the constructors of the class resolved for each requested type
+  private transient Map<Class<?>, ClassConstructors> constructors = new ConcurrentHashMap<>();
+
   @Override
   public <T> T create(Class<T> type) {
     return create(type, null, null);
@@ -48,44 +58,28 @@ public class DefaultObjectFactory implements ObjectFactory, Serializable {
   @SuppressWarnings("unchecked")
   @Override
   public <T> T create(Class<T> type, List<Class<?>> constructorArgTypes, List<Object> constructorArgs) {
-    Class<?> classToCreate = resolveInterface(type);
     // we know types are assignable
-    return (T) instantiateClass(classToCreate, constructorArgTypes, constructorArgs);
+    return (T) instantiateClass(type, constructorArgTypes, constructorArgs);
   }
 
-  private  <T> T instantiateClass(Class<T> type, List<Class<?>> constructorArgTypes, List<Object> constructorArgs) {
+  @UsesJava8
+  private Object instantiateClass(Class<?> type, List<Class<?>> constructorArgTypes, List<Object> constructorArgs) {
     try {
-      Constructor<T> constructor;
-      if (constructorArgTypes == null || constructorArgs == null) {
-        constructor = type.getDeclaredConstructor();
-        try {
-          return constructor.newInstance();
-        } catch (IllegalAccessException e) {
-          if (Reflector.canControlMemberAccessible()) {
-            constructor.setAccessible(true);
-            return constructor.newInstance();
-          } else {
-            throw e;
-          }
-        }
+      ClassConstructors classConstructors = constructors.get(type);
+      if (classConstructors == null) {
+        classConstructors = new ClassConstructors(resolveInterface(type));
+        constructors.put(type, classConstructors);
       }
-      constructor = type.getDeclaredConstructor(constructorArgTypes.toArray(new Class[0]));
-      try {
-        return constructor.newInstance(constructorArgs.toArray(new Object[0]));
-      } catch (IllegalAccessException e) {
-        if (Reflector.canControlMemberAccessible()) {
-          constructor.setAccessible(true);
-          return constructor.newInstance(constructorArgs.toArray(new Object[0]));
-        } else {
-          throw e;
-        }
+      if (constructorArgTypes == null || constructorArgs == null) {
+        return classConstructors.getDefaultConstructor().invokeExact();
       }
-    } catch (Exception e) {
+      return classConstructors.getConstructor(constructorArgTypes).invokeExact(constructorArgs.toArray());
+    } catch (Throwable t) {
       String argTypes = Optional.ofNullable(constructorArgTypes).orElseGet(Collections::emptyList)
           .stream().map(Class::getSimpleName).collect(Collectors.joining(","));
       String argValues = Optional.ofNullable(constructorArgs).orElseGet(Collections::emptyList)
           .stream().map(String::valueOf).collect(Collectors.joining(","));
-      throw new ReflectionException("Error instantiating " + type + " with invalid types (" + argTypes + ") or values (" + argValues + "). Cause: " + e, e);
+      throw new ReflectionException("Error instantiating " + resolveInterface(type) + " with invalid types (" + argTypes + ") or values (" + argValues + "). Cause: " + t, t);
     }
   }
 
@@ -110,4 +104,56 @@ public class DefaultObjectFactory implements ObjectFactory, Serializable {
     return Collection.class.isAssignableFrom(type);
   }
 
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    constructors = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * The constructors of a class as method handles, the ones with arguments taking them as an array.
+   */
+  private static class ClassConstructors {
+    private final Class<?> type;
+    private volatile MethodHandle defaultConstructor;
+    private final Map<List<Class<?>>, MethodHandle> constructors = new ConcurrentHashMap<>();
+
+    ClassConstructors(Class<?> type) {
+      this.type = type;
+    }
+
+    MethodHandle getDefaultConstructor() throws ReflectiveOperationException {
+      MethodHandle constructor = defaultConstructor;
+      if (constructor == null) {
+        constructor = unreflect(type.getDeclaredConstructor()).asType(MethodType.methodType(Object.class));
+        defaultConstructor = constructor;
+      }
+      return constructor;
+    }
+
+    MethodHandle getConstructor(List<Class<?>> argTypes) throws ReflectiveOperationException {
+      MethodHandle constructor = constructors.get(argTypes);
+      if (constructor == null) {
+        constructor = unreflect(type.getDeclaredConstructor(argTypes.toArray(new Class[0])))
+            .asSpreader(Object[].class, argTypes.size())
+            .asType(MethodType.methodType(Object.class, Object[].class));
+        // copied as the caller may change its list
+        constructors.put(new ArrayList<>(argTypes), constructor);
+      }
+      return constructor;
+    }
+
+    private static MethodHandle unreflect(Constructor<?> constructor) throws IllegalAccessException {
+      try {
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+      } catch (IllegalAccessException e) {
+        if (Reflector.canControlMemberAccessible()) {
+          constructor.setAccessible(true);
+          return MethodHandles.lookup().unreflectConstructor(constructor);
+        } else {
+          throw e;
+        }
+      }
+    }
+  }
+
 }
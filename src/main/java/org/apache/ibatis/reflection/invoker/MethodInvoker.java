@@ -56,4 +56,14 @@ public class MethodInvoker implements Invoker {
   public Class<?> getType() {
     return type;
   }
+
+  /**
+   * Gets the invoked method.
+   *
+   * @return the method
+   * @since 3.5.10
+   */
+  public Method getMethod() {
+    return method;
+  }
 }
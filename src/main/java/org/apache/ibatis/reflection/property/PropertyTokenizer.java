@@ -16,18 +16,31 @@
 package org.apache.ibatis.reflection.property;
 
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Clinton Begin
  */
 public class PropertyTokenizer implements Iterator<PropertyTokenizer> {
-  private String name;
+
+  /**
+   * Property paths come from the mappings, so they are few. The names generated for foreach items and the indexed
+   * names are not, and are never cached; the limit only guards against other unbounded names.
+   */
+  private static final int CACHE_LIMIT = 4096;
+  private static final String GENERATED_NAME_PREFIX = "__frch_";
+  private static final Map<String, PropertyTokenizer> CACHE = new ConcurrentHashMap<>();
+
+  private final String name;
   private final String indexedName;
-  private String index;
+  private final String index;
   private final String children;
+  private PropertyTokenizer next;
 
   public PropertyTokenizer(String fullname) {
     int delim = fullname.indexOf('.');
+    String name;
     if (delim > -1) {
       name = fullname.substring(0, delim);
       children = fullname.substring(delim + 1);
@@ -40,7 +53,33 @@ public class PropertyTokenizer implements Iterator<PropertyTokenizer> {
     if (delim > -1) {
       index = name.substring(delim + 1, name.length() - 1);
       name = name.substring(0, delim);
+    } else {
+      index = null;
     }
+    this.name = name;
+  }
+
+  /**
+   * Returns the tokenizer of a property path, which is only tokenized on its first use.
+   *
+   * @param fullname
+   *          the property path
+   * @return the tokenizer
+   * @since 3.5.10
+   */
+  public static PropertyTokenizer forPath(String fullname) {
+    PropertyTokenizer tokenizer = CACHE.get(fullname);
+    if (tokenizer == null) {
+      tokenizer = new PropertyTokenizer(fullname);
+      if (CACHE.size() < CACHE_LIMIT && isCacheable(fullname)) {
+        CACHE.putIfAbsent(fullname, tokenizer);
+      }
+    }
+    return tokenizer;
+  }
+
+  private static boolean isCacheable(String fullname) {
+    return !fullname.startsWith(GENERATED_NAME_PREFIX) && fullname.indexOf('[') == -1;
   }
 
   public String getName() {
@@ -66,7 +105,12 @@ public class PropertyTokenizer implements Iterator<PropertyTokenizer> {
 
   @Override
   public PropertyTokenizer next() {
-    return new PropertyTokenizer(children);
+    PropertyTokenizer tokenizer = next;
+    if (tokenizer == null) {
+      tokenizer = forPath(children);
+      next = tokenizer;
+    }
+    return tokenizer;
   }
 
   @Override
@@ -26,6 +26,7 @@ import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.ParameterMode;
 import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.wrapper.DefaultObjectWrapperFactory;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeException;
@@ -63,12 +64,15 @@ public class DefaultParameterHandler implements ParameterHandler {
     ErrorContext.instance().activity("setting parameters").object(mappedStatement.getParameterMap().getId());
     List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
     if (parameterMappings != null) {
+      ParameterBindingPlan plan = getParameterBindingPlan(parameterMappings);
       for (int i = 0; i < parameterMappings.size(); i++) {
         ParameterMapping parameterMapping = parameterMappings.get(i);
         if (parameterMapping.getMode() != ParameterMode.OUT) {
           Object value;
           String propertyName = parameterMapping.getProperty();
-          if (boundSql.hasAdditionalParameter(propertyName)) { // issue #448 ask first for additional params
+          if (plan != null) {
+            value = plan.getValue(configuration, i, parameterObject);
+          } else if (boundSql.hasAdditionalParameter(propertyName)) { // issue #448 ask first for additional params
             value = boundSql.getAdditionalParameter(propertyName);
           } else if (parameterObject == null) {
             value = null;
@@ -93,4 +97,18 @@ public class DefaultParameterHandler implements ParameterHandler {
     }
   }
 
+  /*
+   * Statements with static sql bind the same parameter mappings on every execution, so the way their values are read
+   * is planned once per parameter type.
+   */
+  private ParameterBindingPlan getParameterBindingPlan(List<ParameterMapping> parameterMappings) {
+    if (parameterObject == null || !boundSql.getAdditionalParameters().isEmpty()
+        || !(mappedStatement.getSqlSource() instanceof RawSqlSource)
+        || !(configuration.getObjectWrapperFactory() instanceof DefaultObjectWrapperFactory)) {
+      return null;
+    }
+    return ((RawSqlSource) mappedStatement.getSqlSource()).getParameterBindingPlan(configuration, parameterMappings,
+        parameterObject.getClass());
+  }
+
 }
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.defaults;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapper;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * How the parameter values of a statement with static sql are read from a parameter object of a given type.
+ * <p>
+ * The plan is computed once per parameter type: whether the parameter object is itself the value, and the property
+ * names of each placeholder. The values are then read with map lookups and getter invocations, and only the property
+ * paths with an index (e.g. {@code items[0]}), or the ones that cannot be read this way, go through a
+ * {@link MetaObject}.
+ *
+ * @since 3.5.10
+ */
+class ParameterBindingPlan {
+
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
+  private final List<ParameterMapping> parameterMappings;
+  private final Class<?> parameterType;
+  private final boolean parameterIsValue;
+  private final String[][] propertyPaths;
+
+  ParameterBindingPlan(Configuration configuration, List<ParameterMapping> parameterMappings, Class<?> parameterType) {
+    this.parameterMappings = parameterMappings;
+    this.parameterType = parameterType;
+    this.parameterIsValue = configuration.getTypeHandlerRegistry().hasTypeHandler(parameterType);
+    this.propertyPaths = new String[parameterMappings.size()][];
+    for (int i = 0; i < propertyPaths.length; i++) {
+      ParameterMapping parameterMapping = parameterMappings.get(i);
+      String property = parameterMapping.getProperty();
+      if (parameterMapping.getMode() != ParameterMode.OUT && property.indexOf('[') < 0) {
+        propertyPaths[i] = property.split("\\.");
+      }
+    }
+  }
+
+  boolean matches(List<ParameterMapping> parameterMappings, Class<?> parameterType) {
+    return this.parameterMappings == parameterMappings && this.parameterType == parameterType;
+  }
+
+  /**
+   * Returns the value of a placeholder.
+   *
+   * @param configuration
+   *          the configuration
+   * @param index
+   *          the index of the placeholder
+   * @param parameterObject
+   *          the parameter object, of the type of the plan
+   * @return the value
+   */
+  Object getValue(Configuration configuration, int index, Object parameterObject) {
+    if (parameterIsValue) {
+      return parameterObject;
+    }
+    String[] path = propertyPaths[index];
+    if (path != null) {
+      ReflectorFactory reflectorFactory = configuration.getReflectorFactory();
+      Object value = parameterObject;
+      for (int i = 0; i < path.length && value != null; i++) {
+        if (value instanceof Map) {
+          value = ((Map<?, ?>) value).get(path[i]);
+          continue;
+        }
+        Reflector reflector = reflectorFactory.findForClass(value.getClass());
+        if (value instanceof Iterable || value instanceof ObjectWrapper || value.getClass().isArray()
+            || !reflector.hasGetter(path[i])) {
+          return getValueSlow(configuration, index, parameterObject);
+        }
+        try {
+          value = reflector.getGetInvoker(path[i]).invoke(value, NO_ARGUMENTS);
+        } catch (ReflectiveOperationException e) {
+          // let the meta object report the failure
+          return getValueSlow(configuration, index, parameterObject);
+        }
+      }
+      return value;
+    }
+    return getValueSlow(configuration, index, parameterObject);
+  }
+
+  private Object getValueSlow(Configuration configuration, int index, Object parameterObject) {
+    return configuration.newMetaObject(parameterObject).getValue(parameterMappings.get(index).getProperty());
+  }
+
+}
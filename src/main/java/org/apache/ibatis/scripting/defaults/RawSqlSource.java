@@ -16,9 +16,13 @@
 package org.apache.ibatis.scripting.defaults;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.ibatis.builder.SqlSourceBuilder;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.SqlSource;
 import org.apache.ibatis.scripting.xmltags.DynamicContext;
 import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
@@ -34,7 +38,13 @@ import org.apache.ibatis.session.Configuration;
  */
 public class RawSqlSource implements SqlSource {
 
+  /**
+   * The number of parameter types whose binding plans are kept for a statement.
+   */
+  private static final int PARAMETER_BINDING_PLAN_LIMIT = 8;
+
   private final SqlSource sqlSource;
+  private final Map<Class<?>, ParameterBindingPlan> parameterBindingPlans = new ConcurrentHashMap<>();
 
   public RawSqlSource(Configuration configuration, SqlNode rootSqlNode, Class<?> parameterType) {
     this(configuration, getSql(configuration, rootSqlNode), parameterType);
@@ -57,4 +67,16 @@ public class RawSqlSource implements SqlSource {
     return sqlSource.getBoundSql(parameterObject);
   }
 
+  ParameterBindingPlan getParameterBindingPlan(Configuration configuration, List<ParameterMapping> parameterMappings,
+      Class<?> parameterType) {
+    ParameterBindingPlan plan = parameterBindingPlans.get(parameterType);
+    if (plan == null || !plan.matches(parameterMappings, parameterType)) {
+      plan = new ParameterBindingPlan(configuration, parameterMappings, parameterType);
+      if (parameterBindingPlans.size() < PARAMETER_BINDING_PLAN_LIMIT || parameterBindingPlans.containsKey(parameterType)) {
+        parameterBindingPlans.put(parameterType, plan);
+      }
+    }
+    return plan;
+  }
+
 }
@@ -15,9 +15,14 @@
  */
 package org.apache.ibatis.scripting.xmltags;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.apache.ibatis.builder.ExpandedParameters;
 import org.apache.ibatis.parsing.GenericTokenParser;
 import org.apache.ibatis.session.Configuration;
 
@@ -30,6 +35,7 @@ public class ForEachSqlNode implements SqlNode {
   private final ExpressionEvaluator evaluator;
   private final String collectionExpression;
   private final Boolean nullable;
+  private final Boolean bucket;
   private final SqlNode contents;
   private final String open;
   private final String close;
@@ -37,6 +43,8 @@ public class ForEachSqlNode implements SqlNode {
   private final String item;
   private final String index;
   private final Configuration configuration;
+  private final String simpleItemPrefix;
+  private final String simpleItemSuffix;
 
   /**
    * @deprecated Since 3.5.9, use the {@link #ForEachSqlNode(Configuration, SqlNode, String, Boolean, String, String, String, String, String)}.
@@ -48,11 +56,21 @@ public class ForEachSqlNode implements SqlNode {
 
   /**
    * @since 3.5.9
+   * @deprecated Since 3.5.10, use the {@link #ForEachSqlNode(Configuration, SqlNode, String, Boolean, Boolean, String, String, String, String, String)}.
    */
+  @Deprecated
   public ForEachSqlNode(Configuration configuration, SqlNode contents, String collectionExpression, Boolean nullable, String index, String item, String open, String close, String separator) {
+    this(configuration, contents, collectionExpression, nullable, null, index, item, open, close, separator);
+  }
+
+  /**
+   * @since 3.5.10
+   */
+  public ForEachSqlNode(Configuration configuration, SqlNode contents, String collectionExpression, Boolean nullable, Boolean bucket, String index, String item, String open, String close, String separator) {
     this.evaluator = new ExpressionEvaluator();
     this.collectionExpression = collectionExpression;
     this.nullable = nullable;
+    this.bucket = bucket;
     this.contents = contents;
     this.open = open;
     this.close = close;
@@ -60,16 +78,42 @@ public class ForEachSqlNode implements SqlNode {
     this.index = index;
     this.item = item;
     this.configuration = configuration;
+    Matcher simpleItem = simpleItemMatcher(contents, item);
+    this.simpleItemPrefix = simpleItem == null ? null : simpleItem.group(1);
+    this.simpleItemSuffix = simpleItem == null ? null : simpleItem.group(2);
+  }
+
+  /**
+   * Matches contents made of a single <code>#{item}</code>, whose items can be bound all at once.
+   */
+  private static Matcher simpleItemMatcher(SqlNode contents, String item) {
+    SqlNode node = contents;
+    if (node instanceof MixedSqlNode && ((MixedSqlNode) node).getContents().size() == 1) {
+      node = ((MixedSqlNode) node).getContents().get(0);
+    }
+    if (item == null || !(node instanceof StaticTextSqlNode)) {
+      return null;
+    }
+    Matcher matcher = Pattern.compile("(\\s*)#\\{\\s*" + Pattern.quote(item) + "\\s*}(\\s*)")
+        .matcher(((StaticTextSqlNode) node).getText());
+    return matcher.matches() ? matcher : null;
   }
 
   @Override
   public boolean apply(DynamicContext context) {
     Map<String, Object> bindings = context.getBindings();
-    final Iterable<?> iterable = evaluator.evaluateIterable(collectionExpression, bindings,
+    Iterable<?> iterable = evaluator.evaluateIterable(collectionExpression, bindings,
       Optional.ofNullable(nullable).orElseGet(configuration::isNullableOnForEach));
     if (iterable == null || !iterable.iterator().hasNext()) {
       return true;
     }
+    if (simpleItemPrefix != null) {
+      if (Boolean.TRUE.equals(bucket)) {
+        iterable = padToBucket(iterable, configuration.getBucketLimitOnForEach());
+      }
+      applySimpleItems(context, iterable);
+      return true;
+    }
     boolean first = true;
     applyOpen(context);
     int i = 0;
@@ -104,6 +148,43 @@ public class ForEachSqlNode implements SqlNode {
     return true;
   }
 
+  /**
+   * Binds the items as a single list parameter, which the sql source builder expands into one placeholder per item,
+   * instead of binding and rewriting every item.
+   */
+  private void applySimpleItems(DynamicContext context, Iterable<?> iterable) {
+    List<Object> values = new ArrayList<>();
+    for (Object o : iterable) {
+      values.add(o instanceof Map.Entry ? ((Map.Entry<?, ?>) o).getValue() : o);
+    }
+    String name = itemizeItem(item, context.getUniqueNumber());
+    String delimiter = simpleItemSuffix + (separator == null ? "" : separator) + simpleItemPrefix;
+    context.bind(name, new ExpandedParameters(values, delimiter));
+    applyOpen(context);
+    context.appendSql(simpleItemPrefix + "#{" + name + "}" + simpleItemSuffix);
+    applyClose(context);
+  }
+
+  /**
+   * Pads the items to the next power of two, but not beyond the limit, by repeating the last item, so that the
+   * collections of similar sizes produce the same sql.
+   */
+  private static List<Object> padToBucket(Iterable<?> iterable, int limit) {
+    List<Object> items = new ArrayList<>();
+    iterable.forEach(items::add);
+    int size = items.size();
+    int bucketSize = Integer.highestOneBit(size);
+    if (bucketSize < size) {
+      bucketSize <<= 1;
+    }
+    bucketSize = Math.min(bucketSize, Math.max(size, limit));
+    Object last = items.get(size - 1);
+    while (items.size() < bucketSize) {
+      items.add(last);
+    }
+    return items;
+  }
+
   private void applyIndex(DynamicContext context, Object o, int i) {
     if (index != null) {
       context.bind(index, o);
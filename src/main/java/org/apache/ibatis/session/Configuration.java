@@ -15,6 +15,7 @@
  */
 package org.apache.ibatis.session;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -25,6 +26,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
 import org.apache.ibatis.binding.MapperRegistry;
@@ -34,6 +37,7 @@ import org.apache.ibatis.builder.ResultMapResolver;
 import org.apache.ibatis.builder.annotation.MethodResolver;
 import org.apache.ibatis.builder.xml.XMLStatementBuilder;
 import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheTagVersions;
 import org.apache.ibatis.cache.decorators.FifoCache;
 import org.apache.ibatis.cache.decorators.LruCache;
 import org.apache.ibatis.cache.decorators.SoftCache;
@@ -115,6 +119,15 @@ public class Configuration {
   protected boolean returnInstanceForEmptyRow;
   protected boolean shrinkWhitespacesInSql;
   protected boolean nullableOnForEach;
+  protected int bucketLimitOnForEach = 1000;
+  protected boolean parallelMapperParsing;
+  protected String mapperSnapshot;
+  protected boolean lazyStatementBuilding;
+  protected int logSamplingInterval = 1;
+  protected final AtomicLong logSamplingCounter = new AtomicLong();
+  protected int logSlowStatementThreshold;
+  protected boolean freezeOnBuild;
+  protected boolean parallelResultSetMapping;
 
   protected String logPrefix;
   /*
@@ -236,6 +249,7 @@ public class Configuration {
   配置缓存map
    */
   protected final Map<String, Cache> caches = new StrictMap<>("Caches collection");
+  protected final Map<String, CacheTagVersions> cacheTagVersions = new ConcurrentHashMap<>();
   /*
   配置结果集map
    */
@@ -263,6 +277,15 @@ public class Configuration {
   protected final Collection<ResultMapResolver> incompleteResultMaps = new LinkedList<>();
   protected final Collection<MethodResolver> incompleteMethods = new LinkedList<>();
 
+  /*
+   * Statements registered at startup and built on their first use, see lazyStatementBuilding.
+   * The map is only modified while the mappers are parsed, the built statements are kept apart.
+   */
+  protected final Map<String, XMLStatementBuilder> lazyStatements = new StrictMap<>("Mapped Statements collection");
+  protected final Map<XMLStatementBuilder, MappedStatement> lazyBuiltStatements = new ConcurrentHashMap<>();
+  private XMLStatementBuilder lazyStatementInProgress;
+  private volatile boolean frozen;
+
   /*
    * A map holds cache-ref relationship. The key is the namespace that
    * references a cache bound to another namespace and the value is the
@@ -443,6 +466,202 @@ public class Configuration {
     return nullableOnForEach;
   }
 
+  /**
+   * Sets the number of items up to which a bucketed 'foreach' is padded.
+   * <p>
+   * The default suits the limit of 1000 items of an Oracle IN list. A collection reaching the limit is not padded.
+   *
+   * @param bucketLimitOnForEach the maximum size of a padded collection
+   * @since 3.5.10
+   */
+  public void setBucketLimitOnForEach(int bucketLimitOnForEach) {
+    this.bucketLimitOnForEach = bucketLimitOnForEach;
+  }
+
+  /**
+   * Returns the number of items up to which a bucketed 'foreach' is padded.
+   *
+   * <p>Default is {@code 1000}.
+   *
+   * @return the maximum size of a padded collection
+   * @since 3.5.10
+   */
+  public int getBucketLimitOnForEach() {
+    return bucketLimitOnForEach;
+  }
+
+  /**
+   * Sets whether the mapper xml files listed in the configuration are parsed in parallel.
+   *
+   * @param parallelMapperParsing If parsed in parallel, set to {@code true}
+   * @since 3.5.10
+   */
+  public void setParallelMapperParsing(boolean parallelMapperParsing) {
+    this.parallelMapperParsing = parallelMapperParsing;
+  }
+
+  /**
+   * Returns whether the mapper xml files listed in the configuration are parsed in parallel.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @return If parsed in parallel, set to {@code true}
+   * @since 3.5.10
+   */
+  public boolean isParallelMapperParsing() {
+    return parallelMapperParsing;
+  }
+
+  /**
+   * Sets the classpath resource of the snapshot of the mapper xml files, created with
+   * {@link org.apache.ibatis.builder.xml.XMLMapperSnapshot}.
+   *
+   * @param mapperSnapshot the snapshot resource
+   * @since 3.5.10
+   */
+  public void setMapperSnapshot(String mapperSnapshot) {
+    this.mapperSnapshot = mapperSnapshot;
+  }
+
+  /**
+   * Returns the classpath resource of the snapshot of the mapper xml files.
+   *
+   * <p>Default is {@code null}.
+   *
+   * @return the snapshot resource
+   * @since 3.5.10
+   */
+  public String getMapperSnapshot() {
+    return mapperSnapshot;
+  }
+
+  /**
+   * Sets whether the mapped statements of the mapper xml files are built on their first use instead of at startup.
+   *
+   * @param lazyStatementBuilding If built on first use, set to {@code true}
+   * @since 3.5.10
+   */
+  public void setLazyStatementBuilding(boolean lazyStatementBuilding) {
+    this.lazyStatementBuilding = lazyStatementBuilding;
+  }
+
+  /**
+   * Returns whether the mapped statements of the mapper xml files are built on their first use.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @return If built on first use, return {@code true}
+   * @since 3.5.10
+   */
+  public boolean isLazyStatementBuilding() {
+    return lazyStatementBuilding;
+  }
+
+  /**
+   * Sets the interval of the statements logged by a debug enabled statement log.
+   *
+   * @param logSamplingInterval 1 to log every statement, n to log only every n-th statement
+   * @since 3.5.10
+   */
+  public void setLogSamplingInterval(int logSamplingInterval) {
+    this.logSamplingInterval = logSamplingInterval;
+  }
+
+  /**
+   * Returns the interval of the statements logged by a debug enabled statement log.
+   *
+   * <p>Default is {@code 1}.
+   *
+   * @return the sampling interval
+   * @since 3.5.10
+   */
+  public int getLogSamplingInterval() {
+    return logSamplingInterval;
+  }
+
+  /**
+   * Returns whether the next statement of a debug enabled statement log is logged.
+   * <p>
+   * The statements of this configuration are counted together, and every n-th one is logged, n being the
+   * {@link #getLogSamplingInterval() log sampling interval}.
+   *
+   * @return {@code true} if the next statement is logged
+   * @since 3.5.10
+   */
+  public boolean isNextStatementLogSampled() {
+    int interval = logSamplingInterval;
+    return interval <= 1 || logSamplingCounter.getAndIncrement() % interval == 0;
+  }
+
+  /**
+   * Sets the minimum execution time of the statements logged by a debug enabled statement log.
+   *
+   * @param logSlowStatementThreshold the threshold in milliseconds, 0 to log every statement
+   * @since 3.5.10
+   */
+  public void setLogSlowStatementThreshold(int logSlowStatementThreshold) {
+    this.logSlowStatementThreshold = logSlowStatementThreshold;
+  }
+
+  /**
+   * Returns the minimum execution time of the statements logged by a debug enabled statement log.
+   *
+   * <p>Default is {@code 0}.
+   *
+   * @return the threshold in milliseconds
+   * @since 3.5.10
+   */
+  public int getLogSlowStatementThreshold() {
+    return logSlowStatementThreshold;
+  }
+
+  /**
+   * Sets whether the configuration is frozen by {@link SqlSessionFactoryBuilder#build(Configuration)}.
+   *
+   * @param freezeOnBuild If frozen, set to {@code true}
+   * @since 3.5.10
+   * @see #freeze()
+   */
+  public void setFreezeOnBuild(boolean freezeOnBuild) {
+    this.freezeOnBuild = freezeOnBuild;
+  }
+
+  /**
+   * Returns whether the configuration is frozen by {@link SqlSessionFactoryBuilder#build(Configuration)}.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @return If frozen, return {@code true}
+   * @since 3.5.10
+   */
+  public boolean isFreezeOnBuild() {
+    return freezeOnBuild;
+  }
+
+  /**
+   * Sets whether the result sets of a statement mapped by several result maps are read into memory and mapped in
+   * parallel.
+   *
+   * @param parallelResultSetMapping If mapped in parallel, set to {@code true}
+   * @since 3.5.10
+   */
+  public void setParallelResultSetMapping(boolean parallelResultSetMapping) {
+    this.parallelResultSetMapping = parallelResultSetMapping;
+  }
+
+  /**
+   * Returns whether the result sets of a statement mapped by several result maps are read into memory and mapped in
+   * parallel.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @return If mapped in parallel, return {@code true}
+   * @since 3.5.10
+   */
+  public boolean isParallelResultSetMapping() {
+    return parallelResultSetMapping;
+  }
+
   public String getDatabaseId() {
     return databaseId;
   }
@@ -822,7 +1041,7 @@ public class Configuration {
       executor = new SimpleExecutor(this, transaction);
     }
     if (cacheEnabled) {
-      executor = new CachingExecutor(executor);
+      executor = new CachingExecutor(executor, this);
     }
     executor = (Executor) interceptorChain.pluginAll(executor);
     return executor;
@@ -864,6 +1083,31 @@ public class Configuration {
     return caches.get(id);
   }
 
+  /**
+   * Keeps the versions of the cache tags of a cache in this configuration. The versions are not shared with other
+   * JVMs, so this is only valid for a cache whose entries are held by this JVM.
+   *
+   * @param id
+   *          the cache id
+   * @since 3.5.10
+   */
+  public void addCacheTagVersions(String id) {
+    cacheTagVersions.putIfAbsent(id, new CacheTagVersions());
+  }
+
+  /**
+   * Returns the versions of the cache tags of a cache.
+   *
+   * @param id
+   *          the cache id
+   * @return the tag versions, shared by every session, or {@code null} if the cache may be shared with other JVMs, in
+   *         which case invalidating tags clears the whole cache
+   * @since 3.5.10
+   */
+  public CacheTagVersions getCacheTagVersions(String id) {
+    return cacheTagVersions.get(id);
+  }
+
   public boolean hasCache(String id) {
     return caches.containsKey(id);
   }
@@ -911,17 +1155,65 @@ public class Configuration {
   }
 
   public void addMappedStatement(MappedStatement ms) {
+    if (lazyStatements.containsKey(ms.getId())) {
+      XMLStatementBuilder lazyStatement = lazyStatements.get(ms.getId());
+      if (lazyStatement != lazyStatementInProgress) {
+        throw new IllegalArgumentException("Mapped Statements collection already contains value for " + ms.getId());
+      }
+      lazyBuiltStatements.put(lazyStatement, ms);
+      return;
+    }
     mappedStatements.put(ms.getId(), ms);
   }
 
+  /**
+   * Registers a statement that is built on its first use.
+   *
+   * @param id the statement id
+   * @param statementBuilder the builder of the statement
+   * @since 3.5.10
+   */
+  public void addLazyStatement(String id, XMLStatementBuilder statementBuilder) {
+    if (mappedStatements.containsKey(id)) {
+      throw new IllegalArgumentException("Mapped Statements collection already contains value for " + id);
+    }
+    lazyStatements.put(id, statementBuilder);
+  }
+
+  /**
+   * Returns the builder of a statement that is built on its first use, whether it has already been built or not.
+   *
+   * @param id the statement id
+   * @return the builder, or {@code null} if the statement is not built on its first use
+   * @since 3.5.10
+   */
+  public XMLStatementBuilder getLazyStatement(String id) {
+    return lazyStatements.containsKey(id) ? lazyStatements.get(id) : null;
+  }
+
   public Collection<String> getMappedStatementNames() {
-    buildAllStatements();
-    return mappedStatements.keySet();
+    if (!frozen) {
+      buildAllStatements();
+    }
+    if (lazyStatements.isEmpty()) {
+      return mappedStatements.keySet();
+    }
+    Set<String> names = new HashSet<>(mappedStatements.keySet());
+    names.addAll(lazyStatements.keySet());
+    return names;
   }
 
   public Collection<MappedStatement> getMappedStatements() {
-    buildAllStatements();
-    return mappedStatements.values();
+    if (!frozen) {
+      buildAllStatements();
+    }
+    if (lazyStatements.isEmpty()) {
+      return mappedStatements.values();
+    }
+    buildLazyStatements();
+    List<MappedStatement> statements = new ArrayList<>(mappedStatements.values());
+    statements.addAll(lazyBuiltStatements.values());
+    return statements;
   }
 
   public Collection<XMLStatementBuilder> getIncompleteStatements() {
@@ -961,12 +1253,101 @@ public class Configuration {
   }
 
   public MappedStatement getMappedStatement(String id, boolean validateIncompleteStatements) {
+    if (frozen) {
+      return mappedStatements.get(id);
+    }
     if (validateIncompleteStatements) {
       buildAllStatements();
     }
+    if (!lazyStatements.isEmpty() && lazyStatements.containsKey(id)) {
+      if (mappedStatements.containsKey(id)) {
+        // a short name of both a statement built on its first use and another statement
+        throw ((StrictMap<?>) mappedStatements).ambiguous(id);
+      }
+      return buildLazyStatement(lazyStatements.get(id));
+    }
     return mappedStatements.get(id);
   }
 
+  /*
+   * Builds a statement registered with addLazyStatement, once. The builds are serialized as the
+   * statements of a mapper share its xml document and its builder assistant.
+   */
+  private MappedStatement buildLazyStatement(XMLStatementBuilder statementBuilder) {
+    MappedStatement ms = lazyBuiltStatements.get(statementBuilder);
+    if (ms == null) {
+      synchronized (lazyBuiltStatements) {
+        ms = lazyBuiltStatements.get(statementBuilder);
+        if (ms == null) {
+          lazyStatementInProgress = statementBuilder;
+          try {
+            statementBuilder.parseStatementNode();
+          } finally {
+            lazyStatementInProgress = null;
+          }
+          ms = lazyBuiltStatements.get(statementBuilder);
+        }
+      }
+    }
+    return ms;
+  }
+
+  private void buildLazyStatements() {
+    for (Object statementBuilder : lazyStatements.values()) {
+      // skip the ambiguous short names
+      if (statementBuilder instanceof XMLStatementBuilder) {
+        buildLazyStatement((XMLStatementBuilder) statementBuilder);
+      }
+    }
+  }
+
+  /**
+   * Resolves all the pending elements, builds the statements that would be built on their first use and freezes the
+   * configuration. From then on, statements, result maps, parameter maps, caches and key generators can no longer be
+   * added, and a statement lookup is a plain map read that neither checks for pending elements nor synchronizes.
+   *
+   * @throws IncompleteElementException
+   *           if an element refers to one that does not exist
+   * @since 3.5.10
+   */
+  public synchronized void freeze() {
+    if (frozen) {
+      return;
+    }
+    buildAllStatements();
+    if (!lazyStatements.isEmpty()) {
+      buildLazyStatements();
+      Collection<MappedStatement> builtStatements = new ArrayList<>(lazyBuiltStatements.values());
+      lazyStatements.clear();
+      lazyBuiltStatements.clear();
+      builtStatements.forEach(ms -> mappedStatements.put(ms.getId(), ms));
+    }
+    freeze(mappedStatements);
+    freeze(caches);
+    freeze(resultMaps);
+    freeze(parameterMaps);
+    freeze(keyGenerators);
+    freeze(sqlFragments);
+    frozen = true;
+  }
+
+  private static void freeze(Map<String, ?> map) {
+    if (map instanceof StrictMap) {
+      ((StrictMap<?>) map).freeze();
+    }
+  }
+
+  /**
+   * Returns whether the configuration has been frozen.
+   *
+   * @return If frozen, return {@code true}
+   * @since 3.5.10
+   * @see #freeze()
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
   public Map<String, XNode> getSqlFragments() {
     return sqlFragments;
   }
@@ -1000,10 +1381,13 @@ public class Configuration {
   }
 
   public boolean hasStatement(String statementName, boolean validateIncompleteStatements) {
+    if (frozen) {
+      return mappedStatements.containsKey(statementName);
+    }
     if (validateIncompleteStatements) {
       buildAllStatements();
     }
-    return mappedStatements.containsKey(statementName);
+    return mappedStatements.containsKey(statementName) || lazyStatements.containsKey(statementName);
   }
 
   public void addCacheRef(String namespace, String referencedNamespace) {
@@ -1118,6 +1502,7 @@ public class Configuration {
     private static final long serialVersionUID = -4950446264854982944L;
     private final String name;
     private BiFunction<V, V, String> conflictMessageProducer;
+    private boolean frozen;
 
     public StrictMap(String name, int initialCapacity, float loadFactor) {
       super(initialCapacity, loadFactor);
@@ -1152,9 +1537,21 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Rejects any further value.
+     *
+     * @since 3.5.10
+     */
+    public void freeze() {
+      this.frozen = true;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public V put(String key, V value) {
+      if (frozen) {
+        throw new IllegalStateException(name + " cannot take " + key + " as the configuration is frozen");
+      }
       if (containsKey(key)) {
         throw new IllegalArgumentException(name + " already contains value for " + key
             + (conflictMessageProducer == null ? "" : conflictMessageProducer.apply(super.get(key), value)));
@@ -1177,12 +1574,16 @@ public class Configuration {
         throw new IllegalArgumentException(name + " does not contain value for " + key);
       }
       if (value instanceof Ambiguity) {
-        throw new IllegalArgumentException(((Ambiguity) value).getSubject() + " is ambiguous in " + name
-            + " (try using the full name including the namespace, or rename one of the entries)");
+        throw ambiguous(((Ambiguity) value).getSubject());
       }
       return value;
     }
 
+    private IllegalArgumentException ambiguous(String subject) {
+      return new IllegalArgumentException(subject + " is ambiguous in " + name
+          + " (try using the full name including the namespace, or rename one of the entries)");
+    }
+
     protected static class Ambiguity {
       private final String subject;
 
@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.MappedStatement;
 
 /**
  * The primary Java interface for working with MyBatis.
@@ -32,6 +33,12 @@ import org.apache.ibatis.executor.BatchResult;
  * {@code Closeable} 是可以关闭的数据源或目标。
  * 调用close方法释放对象所在的资源
  * 持有（如打开的文件）。
+ * <p>
+ * Since 3.5.10, mapper methods call the overloads taking an already resolved {@link MappedStatement}. Their default
+ * implementations delegate to the overloads taking the statement id, so an implementation that only overrides those
+ * still sees the mapper calls. An implementation that also overrides the {@code MappedStatement} overloads, such as
+ * {@link org.apache.ibatis.session.defaults.DefaultSqlSession}, is called through them only.<br>
+ * 从 3.5.10 开始，映射器方法调用接收已解析 {@link MappedStatement} 的重载方法。其默认实现委托给接收语句 id 的重载方法。
  * @author Clinton Begin
  */
 public interface SqlSession extends Closeable {
@@ -249,6 +256,115 @@ public interface SqlSession extends Closeable {
    */
   int delete(String statement, Object parameter);
 
+  /**
+   * Retrieve a single row mapped from an already resolved statement.<br>
+   * 从已解析的语句检索映射的单行。
+   * @param <T> the returned object type
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @return Mapped object
+   * @since 3.5.10
+   */
+  default <T> T selectOne(MappedStatement ms, Object parameter) {
+    return selectOne(ms.getId(), parameter);
+  }
+
+  /**
+   * Retrieve a list of mapped objects from an already resolved statement, within the specified row bounds.<br>
+   * 在指定的行范围内，从已解析的语句检索映射对象的列表。
+   * @param <E> the returned list element type
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @param rowBounds  Bounds to limit object retrieval
+   * @return List of mapped object
+   * @since 3.5.10
+   */
+  default <E> List<E> selectList(MappedStatement ms, Object parameter, RowBounds rowBounds) {
+    return selectList(ms.getId(), parameter, rowBounds);
+  }
+
+  /**
+   * Build a map from the list of mapped objects of an already resolved statement.<br>
+   * 从已解析语句的映射对象列表构建 Map。
+   * @param <K> the returned Map keys type
+   * @param <V> the returned Map values type
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @param mapKey The property to use as key for each value in the list.
+   * @param rowBounds  Bounds to limit object retrieval
+   * @return Map containing key pair data.
+   * @since 3.5.10
+   */
+  default <K, V> Map<K, V> selectMap(MappedStatement ms, Object parameter, String mapKey, RowBounds rowBounds) {
+    return selectMap(ms.getId(), parameter, mapKey, rowBounds);
+  }
+
+  /**
+   * A Cursor offers the same results as a List, except it fetches data lazily using an Iterator, from an already
+   * resolved statement.<br>
+   * 从已解析的语句返回游标。
+   * @param <T> the returned cursor element type.
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @param rowBounds  Bounds to limit object retrieval
+   * @return Cursor of mapped objects
+   * @since 3.5.10
+   */
+  default <T> Cursor<T> selectCursor(MappedStatement ms, Object parameter, RowBounds rowBounds) {
+    return selectCursor(ms.getId(), parameter, rowBounds);
+  }
+
+  /**
+   * Retrieve rows mapped from an already resolved statement using a {@code ResultHandler} and {@code RowBounds}.<br>
+   * 使用 {@code ResultHandler} 和 {@code RowBounds} 检索从已解析语句映射的行。
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @param rowBounds RowBound instance to limit the query results
+   * @param handler ResultHandler that will handle each retrieved row
+   * @since 3.5.10
+   */
+  default void select(MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler handler) {
+    select(ms.getId(), parameter, rowBounds, handler);
+  }
+
+  /**
+   * Execute an already resolved insert statement with the given parameter object. Any generated autoincrement values
+   * or selectKey entries will modify the given parameter object properties. Only the number of rows affected will be
+   * returned.<br>
+   * 使用给定的参数对象执行已解析的插入语句。 任何生成的自动增量值或 selectKey 条目将修改给定参数对象属性。 只会返回受影响的行数。
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @return int The number of rows affected by the insert.
+   * @since 3.5.10
+   */
+  default int insert(MappedStatement ms, Object parameter) {
+    return insert(ms.getId(), parameter);
+  }
+
+  /**
+   * Execute an already resolved update statement. The number of rows affected will be returned.<br>
+   * 执行已解析的更新语句。 将返回受影响的行数。
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @return int The number of rows affected by the update.
+   * @since 3.5.10
+   */
+  default int update(MappedStatement ms, Object parameter) {
+    return update(ms.getId(), parameter);
+  }
+
+  /**
+   * Execute an already resolved delete statement. The number of rows affected will be returned.<br>
+   * 执行已解析的删除语句。 将返回受影响的行数。
+   * @param ms the mapped statement
+   * @param parameter A parameter object to pass to the statement.
+   * @return int The number of rows affected by the delete.
+   * @since 3.5.10
+   */
+  default int delete(MappedStatement ms, Object parameter) {
+    return delete(ms.getId(), parameter);
+  }
+
   /**
    * Flushes batch statements and commits database connection.
    * Note that database connection will not be committed if no updates/deletes/inserts were called.
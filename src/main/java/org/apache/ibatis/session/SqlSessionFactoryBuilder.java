@@ -89,6 +89,9 @@ public class SqlSessionFactoryBuilder {
   }
 
   public SqlSessionFactory build(Configuration config) {
+    if (config.isFreezeOnBuild()) {
+      config.freeze();
+    }
     return new DefaultSqlSessionFactory(config);
   }
 
@@ -27,6 +27,7 @@ import java.util.Properties;
 
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.reflection.ExceptionUtil;
 
 /**
@@ -256,6 +257,46 @@ public class SqlSessionManager implements SqlSessionFactory, SqlSession {
     return sqlSessionProxy.delete(statement, parameter);
   }
 
+  @Override
+  public <T> T selectOne(MappedStatement ms, Object parameter) {
+    return sqlSessionProxy.selectOne(ms, parameter);
+  }
+
+  @Override
+  public <E> List<E> selectList(MappedStatement ms, Object parameter, RowBounds rowBounds) {
+    return sqlSessionProxy.selectList(ms, parameter, rowBounds);
+  }
+
+  @Override
+  public <K, V> Map<K, V> selectMap(MappedStatement ms, Object parameter, String mapKey, RowBounds rowBounds) {
+    return sqlSessionProxy.selectMap(ms, parameter, mapKey, rowBounds);
+  }
+
+  @Override
+  public <T> Cursor<T> selectCursor(MappedStatement ms, Object parameter, RowBounds rowBounds) {
+    return sqlSessionProxy.selectCursor(ms, parameter, rowBounds);
+  }
+
+  @Override
+  public void select(MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler handler) {
+    sqlSessionProxy.select(ms, parameter, rowBounds, handler);
+  }
+
+  @Override
+  public int insert(MappedStatement ms, Object parameter) {
+    return sqlSessionProxy.insert(ms, parameter);
+  }
+
+  @Override
+  public int update(MappedStatement ms, Object parameter) {
+    return sqlSessionProxy.update(ms, parameter);
+  }
+
+  @Override
+  public int delete(MappedStatement ms, Object parameter) {
+    return sqlSessionProxy.delete(ms, parameter);
+  }
+
   @Override
   public <T> T getMapper(Class<T> type) {
     return getConfiguration().getMapper(type, this);
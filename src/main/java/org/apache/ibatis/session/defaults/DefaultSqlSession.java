@@ -43,6 +43,12 @@ import org.apache.ibatis.session.SqlSession;
  * The default implementation for {@link SqlSession}.
  * Note that this class is not Thread-Safe.<br>
  * {@link SqlSession} 的默认实现。请注意，此类不是线程安全的。
+ * <p>
+ * Since 3.5.10, the overloads taking a {@link MappedStatement} run the statement directly, without going through the
+ * overloads taking the statement id. Mapper methods call the former, so a subclass or a spy that overrides, say,
+ * {@code selectOne(String, Object)} is no longer called by a mapper; it has to override
+ * {@code selectOne(MappedStatement, Object)} as well.<br>
+ * 从 3.5.10 开始，接收 {@link MappedStatement} 的重载方法直接执行语句，映射器方法不再经过接收语句 id 的重载方法。
  * @author Clinton Begin
  */
 public class DefaultSqlSession implements SqlSession {
@@ -75,8 +81,16 @@ public class DefaultSqlSession implements SqlSession {
 
   @Override
   public <T> T selectOne(String statement, Object parameter) {
+    return selectOne(this.<T>selectList(statement, parameter));
+  }
+
+  @Override
+  public <T> T selectOne(MappedStatement ms, Object parameter) {
+    return selectOne(this.<T>selectList(ms, parameter, RowBounds.DEFAULT));
+  }
+
+  private <T> T selectOne(List<T> list) {
     // Popular vote was to return null on 0 results and throw exception on too many.
-    List<T> list = this.selectList(statement, parameter);
     if (list.size() == 1) {
       return list.get(0);
     } else if (list.size() > 1) {
@@ -98,7 +112,15 @@ public class DefaultSqlSession implements SqlSession {
 
   @Override
   public <K, V> Map<K, V> selectMap(String statement, Object parameter, String mapKey, RowBounds rowBounds) {
-    final List<? extends V> list = selectList(statement, parameter, rowBounds);
+    return selectMap(this.<V>selectList(statement, parameter, rowBounds), mapKey);
+  }
+
+  @Override
+  public <K, V> Map<K, V> selectMap(MappedStatement ms, Object parameter, String mapKey, RowBounds rowBounds) {
+    return selectMap(this.<V>selectList(ms, parameter, rowBounds), mapKey);
+  }
+
+  private <K, V> Map<K, V> selectMap(List<? extends V> list, String mapKey) {
     final DefaultMapResultHandler<K, V> mapResultHandler = new DefaultMapResultHandler<>(mapKey,
             configuration.getObjectFactory(), configuration.getObjectWrapperFactory(), configuration.getReflectorFactory());
     final DefaultResultContext<V> context = new DefaultResultContext<>();
@@ -133,6 +155,19 @@ public class DefaultSqlSession implements SqlSession {
     }
   }
 
+  @Override
+  public <T> Cursor<T> selectCursor(MappedStatement ms, Object parameter, RowBounds rowBounds) {
+    try {
+      Cursor<T> cursor = executor.queryCursor(ms, wrapCollection(parameter), rowBounds);
+      registerCursor(cursor);
+      return cursor;
+    } catch (Exception e) {
+      throw ExceptionFactory.wrapException("Error querying database.  Cause: " + e, e);
+    } finally {
+      ErrorContext.instance().reset();
+    }
+  }
+
   @Override
   public <E> List<E> selectList(String statement) {
     return this.selectList(statement, null);
@@ -159,6 +194,21 @@ public class DefaultSqlSession implements SqlSession {
     }
   }
 
+  @Override
+  public <E> List<E> selectList(MappedStatement ms, Object parameter, RowBounds rowBounds) {
+    return selectList(ms, parameter, rowBounds, Executor.NO_RESULT_HANDLER);
+  }
+
+  private <E> List<E> selectList(MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler handler) {
+    try {
+      return executor.query(ms, wrapCollection(parameter), rowBounds, handler);
+    } catch (Exception e) {
+      throw ExceptionFactory.wrapException("Error querying database.  Cause: " + e, e);
+    } finally {
+      ErrorContext.instance().reset();
+    }
+  }
+
   @Override
   public void select(String statement, Object parameter, ResultHandler handler) {
     select(statement, parameter, RowBounds.DEFAULT, handler);
@@ -174,6 +224,11 @@ public class DefaultSqlSession implements SqlSession {
     selectList(statement, parameter, rowBounds, handler);
   }
 
+  @Override
+  public void select(MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler handler) {
+    selectList(ms, parameter, rowBounds, handler);
+  }
+
   @Override
   public int insert(String statement) {
     return insert(statement, null);
@@ -184,6 +239,11 @@ public class DefaultSqlSession implements SqlSession {
     return update(statement, parameter);
   }
 
+  @Override
+  public int insert(MappedStatement ms, Object parameter) {
+    return update(ms, parameter);
+  }
+
   @Override
   public int update(String statement) {
     return update(statement, null);
@@ -202,6 +262,18 @@ public class DefaultSqlSession implements SqlSession {
     }
   }
 
+  @Override
+  public int update(MappedStatement ms, Object parameter) {
+    try {
+      dirty = true;
+      return executor.update(ms, wrapCollection(parameter));
+    } catch (Exception e) {
+      throw ExceptionFactory.wrapException("Error updating database.  Cause: " + e, e);
+    } finally {
+      ErrorContext.instance().reset();
+    }
+  }
+
   @Override
   public int delete(String statement) {
     return update(statement, null);
@@ -212,6 +284,11 @@ public class DefaultSqlSession implements SqlSession {
     return update(statement, parameter);
   }
 
+  @Override
+  public int delete(MappedStatement ms, Object parameter) {
+    return update(ms, parameter);
+  }
+
   @Override
   public void commit() {
     commit(false);
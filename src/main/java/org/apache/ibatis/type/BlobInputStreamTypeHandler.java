@@ -73,6 +73,7 @@ public class BlobInputStreamTypeHandler extends BaseTypeHandler<InputStream> {
     if (blob == null) {
       return null;
     } else {
+      LobScope.register(blob);
       return blob.getBinaryStream();
     }
   }
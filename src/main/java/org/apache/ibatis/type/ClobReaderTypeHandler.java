@@ -73,6 +73,7 @@ public class ClobReaderTypeHandler extends BaseTypeHandler<Reader> {
     if (clob == null) {
       return null;
     } else {
+      LobScope.register(clob);
       return clob.getCharacterStream();
     }
   }
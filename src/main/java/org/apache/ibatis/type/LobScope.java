@@ -0,0 +1,101 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The LOBs read by the streaming LOB type handlers while rows are passed to a result handler or a cursor.
+ * <p>
+ * While a scope is active on the current thread, {@link BlobInputStreamTypeHandler} and {@link ClobReaderTypeHandler}
+ * register the LOB behind the stream they return, and the owner of the scope frees them once the row has been handled,
+ * so the streams are valid for the duration of the result handler call or until the cursor moves to the next row.
+ * Without an active scope the LOBs are left to the driver, as the mapped objects may outlive the result set.
+ *
+ * @since 3.5.10
+ */
+public final class LobScope {
+
+  private static final ThreadLocal<LobScope> CURRENT = new ThreadLocal<>();
+
+  private final List<Object> lobs = new ArrayList<>();
+  private int marked;
+
+  /**
+   * Makes a scope the active scope of the current thread.
+   *
+   * @param scope
+   *          the scope, or {@code null} for no active scope
+   * @return the previously active scope, to restore afterwards
+   */
+  public static LobScope enter(LobScope scope) {
+    LobScope previous = CURRENT.get();
+    if (scope == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(scope);
+    }
+    return previous;
+  }
+
+  static void register(Object lob) {
+    LobScope scope = CURRENT.get();
+    if (scope != null) {
+      scope.lobs.add(lob);
+    }
+  }
+
+  /**
+   * Frees the LOBs registered so far.
+   */
+  public void free() {
+    marked = lobs.size();
+    freeMarked();
+  }
+
+  /**
+   * Marks the LOBs registered so far, for example when an object is complete while the rows of the next one have
+   * already been read.
+   */
+  public void mark() {
+    marked = lobs.size();
+  }
+
+  /**
+   * Frees the LOBs registered before the last call to {@link #mark()}, the others are kept.
+   */
+  public void freeMarked() {
+    List<Object> markedLobs = lobs.subList(0, marked);
+    for (Object lob : markedLobs) {
+      try {
+        if (lob instanceof Blob) {
+          ((Blob) lob).free();
+        } else {
+          ((Clob) lob).free();
+        }
+      } catch (SQLException | UnsupportedOperationException e) {
+        // ignore
+      }
+    }
+    markedLobs.clear();
+    marked = 0;
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Optional extensions of {@link TypeHandler} that read a column as a primitive value.
+ * <p>
+ * When a result is auto-mapped to a primitive property of a bean, a type handler implementing the matching extension is
+ * asked for the primitive value, which is then passed to the setter without being boxed. Like
+ * {@link ResultSet#getInt(String)}, the methods return {@code 0} (or {@code false}) for SQL {@code NULL}, and the caller
+ * checks {@link ResultSet#wasNull()}.
+ *
+ * @since 3.5.10
+ */
+public interface PrimitiveTypeHandler {
+
+  /**
+   * A type handler that reads {@code int} values.
+   */
+  interface OfInt extends TypeHandler<Integer> {
+    int getInt(ResultSet rs, String columnName) throws SQLException;
+  }
+
+  /**
+   * A type handler that reads {@code long} values.
+   */
+  interface OfLong extends TypeHandler<Long> {
+    long getLong(ResultSet rs, String columnName) throws SQLException;
+  }
+
+  /**
+   * A type handler that reads {@code double} values.
+   */
+  interface OfDouble extends TypeHandler<Double> {
+    double getDouble(ResultSet rs, String columnName) throws SQLException;
+  }
+
+  /**
+   * A type handler that reads {@code boolean} values.
+   */
+  interface OfBoolean extends TypeHandler<Boolean> {
+    boolean getBoolean(ResultSet rs, String columnName) throws SQLException;
+  }
+
+}
@@ -56,10 +56,14 @@ public final class TypeHandlerRegistry {
 
   private final Map<JdbcType, TypeHandler<?>> jdbcTypeHandlerMap = new EnumMap<>(JdbcType.class);
   private final Map<Type, Map<JdbcType, TypeHandler<?>>> typeHandlerMap = new ConcurrentHashMap<>();
-  private final TypeHandler<Object> unknownTypeHandler;
+  private final UnknownTypeHandler unknownTypeHandler;
   private final Map<Class<?>, TypeHandler<?>> allTypeHandlersMap = new HashMap<>();
 
   private static final Map<JdbcType, TypeHandler<?>> NULL_TYPE_HANDLER_MAP = Collections.emptyMap();
+  private static final Object NO_TYPE_HANDLER = new Object();
+
+  // handlers resolved for a java type, one map per jdbc type (the last one is for a null jdbc type)
+  private volatile Map<Type, Object>[] resolvedTypeHandlers;
 
   private Class<? extends TypeHandler> defaultEnumTypeHandler = EnumTypeHandler.class;
 
@@ -231,7 +235,31 @@ public final class TypeHandlerRegistry {
 
   @SuppressWarnings("unchecked")
   private <T> TypeHandler<T> getTypeHandler(Type type, JdbcType jdbcType) {
-    if (ParamMap.class.equals(type)) {
+    Map<Type, Object>[] resolved = resolvedTypeHandlers;
+    if (resolved == null) {
+      resolved = newResolvedTypeHandlers();
+      resolvedTypeHandlers = resolved;
+    }
+    Map<Type, Object> handlers = resolved[jdbcType == null ? resolved.length - 1 : jdbcType.ordinal()];
+    Object handler = handlers.get(type);
+    if (handler == null) {
+      handler = resolveTypeHandler(type, jdbcType);
+      handlers.put(type, handler == null ? NO_TYPE_HANDLER : handler);
+    }
+    return handler == NO_TYPE_HANDLER ? null : (TypeHandler<T>) handler;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Type, Object>[] newResolvedTypeHandlers() {
+    Map<Type, Object>[] resolved = new Map[JdbcType.values().length + 1];
+    for (int i = 0; i < resolved.length; i++) {
+      resolved[i] = new ConcurrentHashMap<>();
+    }
+    return resolved;
+  }
+
+  private TypeHandler<?> resolveTypeHandler(Type type, JdbcType jdbcType) {
+    if (type instanceof Class && ParamMap.class.isAssignableFrom((Class<?>) type)) {
       return null;
     }
     Map<JdbcType, TypeHandler<?>> jdbcHandlerMap = getJdbcHandlerMap(type);
@@ -246,8 +274,14 @@ public final class TypeHandlerRegistry {
         handler = pickSoleHandler(jdbcHandlerMap);
       }
     }
-    // type drives generics here
-    return (TypeHandler<T>) handler;
+    if (handler == null && jdbcType == JdbcType.ARRAY && isArrayOrCollection(type)) {
+      handler = jdbcTypeHandlerMap.get(JdbcType.ARRAY);
+    }
+    return handler;
+  }
+
+  private static boolean isArrayOrCollection(Type type) {
+    return type instanceof Class && (((Class<?>) type).isArray() || Collection.class.isAssignableFrom((Class<?>) type));
   }
 
   private Map<JdbcType, TypeHandler<?>> getJdbcHandlerMap(Type type) {
@@ -323,6 +357,7 @@ public final class TypeHandlerRegistry {
 
   public void register(JdbcType jdbcType, TypeHandler<?> handler) {
     jdbcTypeHandlerMap.put(jdbcType, handler);
+    clearResolvedTypeHandlers();
   }
 
   //
@@ -398,6 +433,12 @@ public final class TypeHandlerRegistry {
       typeHandlerMap.put(javaType, map);
     }
     allTypeHandlersMap.put(handler.getClass(), handler);
+    clearResolvedTypeHandlers();
+  }
+
+  private void clearResolvedTypeHandlers() {
+    resolvedTypeHandlers = null;
+    unknownTypeHandler.clearResolvedTypeHandlers();
   }
 
   //
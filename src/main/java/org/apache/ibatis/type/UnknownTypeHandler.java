@@ -22,10 +22,12 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.util.MapUtil;
 
 /**
  * @author Clinton Begin
@@ -36,6 +38,8 @@ public class UnknownTypeHandler extends BaseTypeHandler<Object> {
   // TODO Rename to 'configuration' after removing the 'configuration' property(deprecated property) on parent class
   private final Configuration config;
   private final Supplier<TypeHandlerRegistry> typeHandlerRegistrySupplier;
+  private final Map<Class<?>, TypeHandler<?>> parameterTypeHandlers = new ConcurrentHashMap<>();
+  private final Map<JdbcType, Map<Class<?>, TypeHandler<?>>> parameterTypeHandlersByJdbcType = new ConcurrentHashMap<>();
 
   /**
    * The constructor that pass a MyBatis configuration.
@@ -90,16 +94,29 @@ public class UnknownTypeHandler extends BaseTypeHandler<Object> {
     return cs.getObject(columnIndex);
   }
 
+  /**
+   * Forgets the type handlers resolved for parameter classes so far.
+   * Called by the type handler registry when a type handler is registered.
+   */
+  void clearResolvedTypeHandlers() {
+    parameterTypeHandlers.clear();
+    parameterTypeHandlersByJdbcType.clear();
+  }
+
   private TypeHandler<?> resolveTypeHandler(Object parameter, JdbcType jdbcType) {
-    TypeHandler<?> handler;
     if (parameter == null) {
+      return OBJECT_TYPE_HANDLER;
+    }
+    Map<Class<?>, TypeHandler<?>> handlers = jdbcType == null ? parameterTypeHandlers
+        : MapUtil.computeIfAbsent(parameterTypeHandlersByJdbcType, jdbcType, k -> new ConcurrentHashMap<>());
+    return MapUtil.computeIfAbsent(handlers, parameter.getClass(), k -> resolveTypeHandler(k, jdbcType));
+  }
+
+  private TypeHandler<?> resolveTypeHandler(Class<?> parameterType, JdbcType jdbcType) {
+    TypeHandler<?> handler = typeHandlerRegistrySupplier.get().getTypeHandler(parameterType, jdbcType);
+    // check if handler is null (issue #270)
+    if (handler == null || handler instanceof UnknownTypeHandler) {
       handler = OBJECT_TYPE_HANDLER;
-    } else {
-      handler = typeHandlerRegistrySupplier.get().getTypeHandler(parameter.getClass(), jdbcType);
-      // check if handler is null (issue #270)
-      if (handler == null || handler instanceof UnknownTypeHandler) {
-        handler = OBJECT_TYPE_HANDLER;
-      }
     }
     return handler;
   }
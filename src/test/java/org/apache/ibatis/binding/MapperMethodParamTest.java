@@ -16,8 +16,11 @@
 package org.apache.ibatis.binding;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
@@ -71,6 +74,36 @@ class MapperMethodParamTest {
     }
   }
 
+  @Test
+  void arrayParamMapShouldReadArgumentsByIndex() {
+    Map<String, Integer> indexes = new LinkedHashMap<>();
+    indexes.put("id", 0);
+    indexes.put("param1", 0);
+    indexes.put("size", 2);
+    indexes.put("param2", 2);
+    MapperMethod.ArrayParamMap<Object> params = new MapperMethod.ArrayParamMap<>(indexes, new Object[] { "foo", null, 10L });
+    assertThat(params.get("id")).isEqualTo("foo");
+    assertThat(params.get("param2")).isEqualTo(10L);
+    assertThat(params.containsKey("size")).isTrue();
+    assertThat(params.containsKey("other")).isFalse();
+    assertThat(params).hasSize(4);
+    assertThatThrownBy(() -> params.get("other")).isInstanceOf(BindingException.class)
+        .hasMessage("Parameter 'other' not found. Available parameters are [id, param1, size, param2]");
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("id", "foo");
+    expected.put("param1", "foo");
+    expected.put("size", 10L);
+    expected.put("param2", 10L);
+    assertThat(params).isEqualTo(expected);
+
+    params.put("other", "bar");
+    expected.put("other", "bar");
+    assertThat(params).isEqualTo(expected);
+    assertThat(params.get("other")).isEqualTo("bar");
+    assertThatThrownBy(() -> params.get("missing")).isInstanceOf(BindingException.class);
+  }
+
   interface Mapper {
     @Insert("insert into param_test (id, size) values(#{id}, #{size})")
     void insert(@Param("id") String id, @Param("size") long size);
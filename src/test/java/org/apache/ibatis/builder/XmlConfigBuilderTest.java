@@ -33,6 +33,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import org.apache.ibatis.builder.mapper.CustomMapper;
 import org.apache.ibatis.builder.typehandler.CustomIntegerTypeHandler;
@@ -49,6 +50,8 @@ import org.apache.ibatis.io.JBoss6VFS;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.logging.slf4j.Slf4jImpl;
 import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.mapping.ResultSetType;
 import org.apache.ibatis.scripting.defaults.RawLanguageDriver;
 import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
@@ -104,6 +107,14 @@ class XmlConfigBuilderTest {
       assertThat(config.isShrinkWhitespacesInSql()).isFalse();
       assertThat(config.getDefaultSqlProviderType()).isNull();
       assertThat(config.isNullableOnForEach()).isFalse();
+      assertThat(config.getBucketLimitOnForEach()).isEqualTo(1000);
+      assertThat(config.isParallelMapperParsing()).isFalse();
+      assertThat(config.getMapperSnapshot()).isNull();
+      assertThat(config.isLazyStatementBuilding()).isFalse();
+      assertThat(config.getLogSamplingInterval()).isEqualTo(1);
+      assertThat(config.getLogSlowStatementThreshold()).isZero();
+      assertThat(config.isFreezeOnBuild()).isFalse();
+      assertThat(config.isParallelResultSetMapping()).isFalse();
     }
   }
 
@@ -202,6 +213,14 @@ class XmlConfigBuilderTest {
       assertThat(config.isShrinkWhitespacesInSql()).isTrue();
       assertThat(config.getDefaultSqlProviderType().getName()).isEqualTo(MySqlProvider.class.getName());
       assertThat(config.isNullableOnForEach()).isTrue();
+      assertThat(config.getBucketLimitOnForEach()).isEqualTo(500);
+      assertThat(config.isParallelMapperParsing()).isTrue();
+      assertThat(config.getMapperSnapshot()).isEqualTo("org/apache/ibatis/builder/mappers.snapshot");
+      assertThat(config.isLazyStatementBuilding()).isTrue();
+      assertThat(config.getLogSamplingInterval()).isEqualTo(10);
+      assertThat(config.getLogSlowStatementThreshold()).isEqualTo(500);
+      assertThat(config.isFreezeOnBuild()).isTrue();
+      assertThat(config.isParallelResultSetMapping()).isTrue();
 
       assertThat(config.getTypeAliasRegistry().getTypeAliases().get("blogauthor")).isEqualTo(Author.class);
       assertThat(config.getTypeAliasRegistry().getTypeAliases().get("blog")).isEqualTo(Blog.class);
@@ -310,6 +329,54 @@ class XmlConfigBuilderTest {
       .hasMessageContaining("The properties element cannot specify both a URL and a resource based property file reference.  Please specify one or the other.");
   }
 
+  @Test
+  void parallelMapperParsingShouldBuildSameConfiguration() {
+    Configuration sequential = parseCrossReferencingMappers(false);
+    Configuration parallel = parseCrossReferencingMappers(true);
+
+    assertThat(parallel.getIncompleteResultMaps()).isEmpty();
+    assertThat(parallel.getIncompleteCacheRefs()).isEmpty();
+    assertThat(parallel.getIncompleteStatements()).isEmpty();
+    assertThat(parallel.getMappedStatementNames()).isEqualTo(sequential.getMappedStatementNames());
+    assertThat(parallel.getResultMapNames()).isEqualTo(sequential.getResultMapNames());
+    assertThat(parallel.getCacheNames()).isEqualTo(sequential.getCacheNames());
+    for (String id : sequential.getMappedStatementNames()) {
+      if (!id.contains(".")) {
+        // short names may be ambiguous
+        continue;
+      }
+      MappedStatement expected = sequential.getMappedStatement(id);
+      MappedStatement actual = parallel.getMappedStatement(id);
+      assertThat(actual.getResource()).isEqualTo(expected.getResource());
+      assertThat(cacheId(actual)).isEqualTo(cacheId(expected));
+      assertThat(actual.getResultMaps()).extracting(ResultMap::getId)
+          .isEqualTo(expected.getResultMaps().stream().map(ResultMap::getId).collect(Collectors.toList()));
+    }
+  }
+
+  private String cacheId(MappedStatement ms) {
+    return ms.getCache() == null ? null : ms.getCache().getId();
+  }
+
+  private Configuration parseCrossReferencingMappers(boolean parallelMapperParsing) {
+    final String MAPPER_CONFIG = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+            + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+            + "<configuration>\n"
+            + "  <settings>\n"
+            + "    <setting name=\"parallelMapperParsing\" value=\"" + parallelMapperParsing + "\"/>\n"
+            + "  </settings>\n"
+            + "  <mappers>\n"
+            + "    <mapper resource=\"org/apache/ibatis/submitted/xml_external_ref/MultipleCrossIncludePersonMapper.xml\"/>\n"
+            + "    <mapper resource=\"org/apache/ibatis/submitted/xml_external_ref/MultipleCrossIncludePetMapper.xml\"/>\n"
+            + "    <mapper resource=\"org/apache/ibatis/submitted/xml_external_ref/ResultMapReferencePersonMapper.xml\"/>\n"
+            + "    <mapper resource=\"org/apache/ibatis/submitted/xml_external_ref/ResultMapReferencePetMapper.xml\"/>\n"
+            + "  </mappers>\n"
+            + "</configuration>\n";
+
+    XMLConfigBuilder builder = new XMLConfigBuilder(new StringReader(MAPPER_CONFIG));
+    return builder.parse();
+  }
+
   static class MySqlProvider {
     @SuppressWarnings("unused")
     public static String provideSql() {
@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.parsing.XPathParser;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class XMLMapperSnapshotTest {
+
+  private static final String RESOURCE = "org/apache/ibatis/builder/AuthorMapper.xml";
+
+  @Test
+  void shouldBuildSameStatementsFromSnapshot() throws Exception {
+    XMLMapperSnapshot snapshot = createSnapshot();
+
+    XPathParser parser = snapshot.getParser(RESOURCE, readSource(), null);
+    assertThat(parser).isNotNull();
+
+    Configuration fromSnapshot = new Configuration();
+    new XMLMapperBuilder(parser, fromSnapshot, RESOURCE, fromSnapshot.getSqlFragments()).parse();
+    Configuration fromSource = new Configuration();
+    try (InputStream inputStream = Resources.getResourceAsStream(RESOURCE)) {
+      new XMLMapperBuilder(inputStream, fromSource, RESOURCE, fromSource.getSqlFragments()).parse();
+    }
+
+    assertThat(fromSnapshot.getMappedStatementNames()).isEqualTo(fromSource.getMappedStatementNames());
+    assertThat(fromSnapshot.getResultMapNames()).isEqualTo(fromSource.getResultMapNames());
+    for (String id : fromSource.getMappedStatementNames()) {
+      if (!id.contains(".")) {
+        continue;
+      }
+      MappedStatement expected = fromSource.getMappedStatement(id);
+      MappedStatement actual = fromSnapshot.getMappedStatement(id);
+      assertThat(actual.getSqlCommandType()).isEqualTo(expected.getSqlCommandType());
+      assertThat(actual.getResultMaps().size()).isEqualTo(expected.getResultMaps().size());
+      if (!expected.getSqlSource().getClass().getSimpleName().startsWith("Dynamic")) {
+        BoundSql expectedSql = expected.getBoundSql(null);
+        assertThat(actual.getBoundSql(null).getSql()).isEqualTo(expectedSql.getSql());
+      }
+    }
+  }
+
+  @Test
+  void shouldIgnoreChangedSource() throws Exception {
+    XMLMapperSnapshot snapshot = createSnapshot();
+    byte[] changed = (new String(readSource(), StandardCharsets.UTF_8) + "\n").getBytes(StandardCharsets.UTF_8);
+    assertThat(snapshot.getParser(RESOURCE, changed, null)).isNull();
+  }
+
+  @Test
+  void shouldIgnoreUnknownLocation() throws Exception {
+    XMLMapperSnapshot snapshot = createSnapshot();
+    assertThat(snapshot.getParser("org/apache/ibatis/builder/BlogMapper.xml", readSource(), null)).isNull();
+  }
+
+  private XMLMapperSnapshot createSnapshot() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    XMLMapperSnapshot.write(out, RESOURCE);
+    return XMLMapperSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+  }
+
+  private byte[] readSource() throws Exception {
+    try (InputStream inputStream = Resources.getResourceAsStream(RESOURCE)) {
+      return XMLMapperSnapshot.readFully(inputStream);
+    }
+  }
+
+}
@@ -22,6 +22,7 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import org.apache.ibatis.scripting.xmltags.IfSqlNode;
 import org.apache.ibatis.scripting.xmltags.MixedSqlNode;
 import org.apache.ibatis.scripting.xmltags.SetSqlNode;
 import org.apache.ibatis.scripting.xmltags.SqlNode;
+import org.apache.ibatis.scripting.xmltags.StaticTextSqlNode;
 import org.apache.ibatis.scripting.xmltags.TextSqlNode;
 import org.apache.ibatis.scripting.xmltags.WhereSqlNode;
 import org.apache.ibatis.session.Configuration;
@@ -329,6 +331,70 @@ class DynamicSqlSourceTest extends BaseDataTest {
     assertEquals("__frch_item_2", boundSql.getParameterMappings().get(2).getProperty());
   }
 
+  @Test
+  void shouldBindSimpleItemsOfForEachAtOnce() throws Exception {
+    final HashMap<String, int[]> parameterObject = new HashMap<String, int[]>() {{
+      put("array", new int[]{1, 2, 3});
+    }};
+    final String expected = "SELECT * FROM BLOG WHERE ID in (  ? , ? , ?  )";
+    DynamicSqlSource source = createDynamicSqlSource(
+        new TextSqlNode("SELECT * FROM BLOG WHERE ID in"),
+        new ForEachSqlNode(new Configuration(), mixedContents(new StaticTextSqlNode(" #{item} ")), "array", null, "index", "item", "(", ")", ","));
+    BoundSql boundSql = source.getBoundSql(parameterObject);
+    assertEquals(expected, boundSql.getSql());
+    assertEquals(3, boundSql.getParameterMappings().size());
+    for (int i = 0; i < 3; i++) {
+      String property = boundSql.getParameterMappings().get(i).getProperty();
+      assertEquals("__frch_item_0[" + i + "]", property);
+      assertEquals(Integer.class, boundSql.getParameterMappings().get(i).getJavaType());
+      assertEquals(i + 1, boundSql.getAdditionalParameter(property));
+    }
+  }
+
+  @Test
+  void shouldPadForEachItemsToBucketSize() throws Exception {
+    final HashMap<String, List<Integer>> parameterObject = new HashMap<String, List<Integer>>() {{
+      put("list", Arrays.asList(1, 2, 3, 4, 5));
+    }};
+    final String expected = "SELECT * FROM BLOG WHERE ID in (  ? , ? , ? , ? , ? , ? , ? , ?  )";
+    DynamicSqlSource source = createDynamicSqlSource(
+        new TextSqlNode("SELECT * FROM BLOG WHERE ID in"),
+        new ForEachSqlNode(new Configuration(), mixedContents(new StaticTextSqlNode(" #{item} ")), "list", null, true, null, "item", "(", ")", ","));
+    BoundSql boundSql = source.getBoundSql(parameterObject);
+    assertEquals(expected, boundSql.getSql());
+    assertEquals(8, boundSql.getParameterMappings().size());
+    assertEquals(4, boundSql.getAdditionalParameter(boundSql.getParameterMappings().get(3).getProperty()));
+    assertEquals(5, boundSql.getAdditionalParameter(boundSql.getParameterMappings().get(4).getProperty()));
+    assertEquals(5, boundSql.getAdditionalParameter(boundSql.getParameterMappings().get(7).getProperty()));
+  }
+
+  @Test
+  void shouldNotPadForEachItemsBeyondBucketLimit() throws Exception {
+    List<Integer> ids = new ArrayList<>();
+    for (int i = 0; i < 600; i++) {
+      ids.add(i);
+    }
+    Configuration configuration = new Configuration();
+    DynamicSqlSource source = createDynamicSqlSource(
+        new TextSqlNode("SELECT * FROM BLOG WHERE ID in"),
+        new ForEachSqlNode(configuration, mixedContents(new StaticTextSqlNode(" #{item} ")), "list", null, true, null, "item", "(", ")", ","));
+    assertEquals(1000, source.getBoundSql(Collections.singletonMap("list", ids)).getParameterMappings().size());
+
+    configuration.setBucketLimitOnForEach(512);
+    assertEquals(600, source.getBoundSql(Collections.singletonMap("list", ids)).getParameterMappings().size());
+  }
+
+  @Test
+  void shouldNotPadForEachItemsWithoutBucket() throws Exception {
+    final String expected = "INSERT INTO BLOG (ID, TITLE, AUTHOR) VALUES (  ? , ? , ?  )";
+    DynamicSqlSource source = createDynamicSqlSource(
+        new TextSqlNode("INSERT INTO BLOG (ID, TITLE, AUTHOR) VALUES"),
+        new ForEachSqlNode(new Configuration(), mixedContents(new StaticTextSqlNode(" #{item} ")), "list", null, null, null, "item", "(", ")", ","));
+    BoundSql boundSql = source.getBoundSql(Collections.singletonMap("list", Arrays.asList(1, "Title", "Author")));
+    assertEquals(expected, boundSql.getSql());
+    assertEquals(3, boundSql.getParameterMappings().size());
+  }
+
   @Test
   void shouldHandleOgnlExpression() throws Exception {
     final HashMap<String, String> parameterObject = new HashMap<String, String>() {{
@@ -0,0 +1,370 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.apache.ibatis.type.ArrayTypeHandler;
+import org.apache.ibatis.type.BigDecimalTypeHandler;
+import org.apache.ibatis.type.BigIntegerTypeHandler;
+import org.apache.ibatis.type.BlobByteObjectArrayTypeHandler;
+import org.apache.ibatis.type.BlobInputStreamTypeHandler;
+import org.apache.ibatis.type.BlobTypeHandler;
+import org.apache.ibatis.type.BooleanTypeHandler;
+import org.apache.ibatis.type.ByteArrayTypeHandler;
+import org.apache.ibatis.type.ByteObjectArrayTypeHandler;
+import org.apache.ibatis.type.ByteTypeHandler;
+import org.apache.ibatis.type.CharacterTypeHandler;
+import org.apache.ibatis.type.ClobReaderTypeHandler;
+import org.apache.ibatis.type.ClobTypeHandler;
+import org.apache.ibatis.type.DateOnlyTypeHandler;
+import org.apache.ibatis.type.DateTypeHandler;
+import org.apache.ibatis.type.DoubleTypeHandler;
+import org.apache.ibatis.type.FloatTypeHandler;
+import org.apache.ibatis.type.InstantTypeHandler;
+import org.apache.ibatis.type.IntegerTypeHandler;
+import org.apache.ibatis.type.JapaneseDateTypeHandler;
+import org.apache.ibatis.type.LocalDateTimeTypeHandler;
+import org.apache.ibatis.type.LocalDateTypeHandler;
+import org.apache.ibatis.type.LocalTimeTypeHandler;
+import org.apache.ibatis.type.LongTypeHandler;
+import org.apache.ibatis.type.MonthTypeHandler;
+import org.apache.ibatis.type.NClobTypeHandler;
+import org.apache.ibatis.type.NStringTypeHandler;
+import org.apache.ibatis.type.ObjectTypeHandler;
+import org.apache.ibatis.type.OffsetDateTimeTypeHandler;
+import org.apache.ibatis.type.OffsetTimeTypeHandler;
+import org.apache.ibatis.type.ShortTypeHandler;
+import org.apache.ibatis.type.SqlDateTypeHandler;
+import org.apache.ibatis.type.SqlTimeTypeHandler;
+import org.apache.ibatis.type.SqlTimestampTypeHandler;
+import org.apache.ibatis.type.SqlxmlTypeHandler;
+import org.apache.ibatis.type.StringTypeHandler;
+import org.apache.ibatis.type.TimeOnlyTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.apache.ibatis.type.UnknownTypeHandler;
+import org.apache.ibatis.type.YearMonthTypeHandler;
+import org.apache.ibatis.type.YearTypeHandler;
+import org.apache.ibatis.type.ZonedDateTimeTypeHandler;
+import org.junit.jupiter.api.Test;
+
+class BufferedResultSetTest {
+
+  @Test
+  void shouldReadBufferedRows() throws Exception {
+    ResultSet buffered = BufferedResultSet.buffer(mockResultSet());
+
+    assertTrue(buffered.next());
+    assertEquals(1, buffered.getInt("ID"));
+    assertEquals(1L, buffered.getObject(1, Long.class));
+    assertEquals(new BigDecimal("1"), buffered.getBigDecimal("id"));
+    assertEquals("Pen", buffered.getString("item"));
+    assertFalse(buffered.wasNull());
+    assertEquals(LocalDateTime.of(2022, 1, 2, 3, 4, 5), buffered.getObject("CREATED_AT", LocalDateTime.class));
+
+    assertTrue(buffered.next());
+    assertEquals(2, buffered.getInt(1));
+    assertNull(buffered.getString(2));
+    assertTrue(buffered.wasNull());
+    assertEquals(0, buffered.getInt(3));
+    assertTrue(buffered.wasNull());
+
+    assertFalse(buffered.next());
+    assertTrue(buffered.isAfterLast());
+    buffered.close();
+    assertThrows(SQLException.class, buffered::next);
+  }
+
+  @Test
+  void shouldKeepColumnMetaData() throws Exception {
+    ResultSetMetaData metaData = BufferedResultSet.buffer(mockResultSet()).getMetaData();
+
+    assertEquals(3, metaData.getColumnCount());
+    assertEquals("ITEM", metaData.getColumnLabel(2));
+    assertEquals(Types.VARCHAR, metaData.getColumnType(2));
+    assertEquals(String.class.getName(), metaData.getColumnClassName(2));
+  }
+
+  @Test
+  void shouldNotConvertUnrelatedValues() throws Exception {
+    ResultSet buffered = BufferedResultSet.buffer(mockResultSet());
+
+    assertTrue(buffered.next());
+    assertThrows(SQLException.class, () -> buffered.getInt("ITEM"));
+    assertEquals("Pen", buffered.getObject(2, String.class));
+    assertThrows(SQLException.class, () -> buffered.getString("MISSING"));
+  }
+
+  @Test
+  void shouldKeepDriverStrings() throws Exception {
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(3);
+    when(metaData.getColumnLabel(anyInt())).thenReturn("AMOUNT", "DATA", "CREATED_AT");
+    when(metaData.getColumnName(anyInt())).thenReturn("AMOUNT", "DATA", "CREATED_AT");
+    when(metaData.getColumnType(1)).thenReturn(Types.DECIMAL);
+    when(metaData.getColumnType(2)).thenReturn(Types.VARBINARY);
+    when(metaData.getColumnType(3)).thenReturn(Types.TIMESTAMP);
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getMetaData()).thenReturn(metaData);
+    when(rs.next()).thenReturn(true, false);
+    when(rs.getObject(1)).thenReturn(new BigDecimal("1E+3"));
+    when(rs.getString(1)).thenReturn("1000");
+    when(rs.getObject(2)).thenReturn(new byte[] { 1, 2 });
+    when(rs.getString(2)).thenReturn("0102");
+    when(rs.getObject(3)).thenReturn(Timestamp.valueOf(LocalDateTime.of(2022, 1, 2, 3, 4, 5)));
+    when(rs.getString(3)).thenReturn("2022-01-02 03:04:05");
+
+    ResultSet buffered = BufferedResultSet.buffer(rs);
+
+    assertTrue(buffered.next());
+    assertEquals("1000", buffered.getString(1));
+    assertEquals("0102", buffered.getObject("DATA", String.class));
+    assertEquals("2022-01-02 03:04:05", buffered.getString("CREATED_AT"));
+    assertEquals(new BigDecimal("1E+3"), buffered.getBigDecimal(1));
+  }
+
+  @Test
+  void shouldKeepTimeZoneOffsets() throws Exception {
+    OffsetDateTime createdAt = OffsetDateTime.of(2022, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHours(9));
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(1);
+    when(metaData.getColumnLabel(1)).thenReturn("CREATED_AT");
+    when(metaData.getColumnName(1)).thenReturn("CREATED_AT");
+    when(metaData.getColumnType(1)).thenReturn(Types.TIMESTAMP_WITH_TIMEZONE);
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getMetaData()).thenReturn(metaData);
+    when(rs.next()).thenReturn(true, false);
+    when(rs.getObject(1)).thenReturn(Timestamp.from(createdAt.toInstant()));
+    when(rs.getObject(1, OffsetDateTime.class)).thenReturn(createdAt);
+
+    ResultSet buffered = BufferedResultSet.buffer(rs);
+
+    assertTrue(buffered.next());
+    assertEquals(createdAt, buffered.getObject(1, OffsetDateTime.class));
+    assertEquals(createdAt.toZonedDateTime(), buffered.getObject(1, ZonedDateTime.class));
+    assertEquals(createdAt.toOffsetTime(), buffered.getObject(1, OffsetTime.class));
+    assertEquals(createdAt.toInstant(), buffered.getObject(1, Instant.class));
+    Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    assertEquals(Timestamp.from(createdAt.toInstant()), buffered.getTimestamp(1, utc));
+  }
+
+  @Test
+  void shouldReadDateTimesInCalendarTimeZone() throws Exception {
+    ResultSet buffered = BufferedResultSet.buffer(mockResultSet());
+    Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+    assertTrue(buffered.next());
+    Instant expected = LocalDateTime.of(2022, 1, 2, 3, 4, 5).toInstant(ZoneOffset.UTC);
+    assertEquals(Timestamp.from(expected), buffered.getTimestamp("CREATED_AT", utc));
+    assertEquals(new Date(LocalDate.of(2022, 1, 2).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli()),
+        buffered.getDate(3, utc));
+    Instant timeOfDay = LocalTime.of(3, 4, 5).atDate(LocalDate.of(1970, 1, 1)).toInstant(ZoneOffset.UTC);
+    assertEquals(new Time(timeOfDay.toEpochMilli()), buffered.getTime(3, utc));
+    assertEquals(buffered.getTimestamp(3), buffered.getTimestamp(3, null));
+  }
+
+  @Test
+  void shouldReadEveryBuiltInTypeHandler() throws Exception {
+    Map<Class<?>, List<String>> columnsByTypeHandler = new HashMap<>();
+    List<String> allColumns = Arrays.asList("ID", "BOOL_COL", "TINY_COL", "SMALL_COL", "BIG_COL", "REAL_COL",
+        "DOUBLE_COL", "DEC_COL", "CHAR_COL", "YM_COL", "XML_COL", "CLOB_COL", "BIN_COL", "BLOB_COL", "DATE_COL",
+        "TIME_COL", "TIMETZ_COL", "TS_COL", "TSTZ_COL", "ARRAY_COL");
+    columnsByTypeHandler.put(ObjectTypeHandler.class, allColumns);
+    columnsByTypeHandler.put(UnknownTypeHandler.class, allColumns);
+    columnsByTypeHandler.put(BooleanTypeHandler.class, Arrays.asList("BOOL_COL", "TINY_COL"));
+    columnsByTypeHandler.put(ByteTypeHandler.class, Arrays.asList("TINY_COL"));
+    columnsByTypeHandler.put(ShortTypeHandler.class, Arrays.asList("SMALL_COL"));
+    columnsByTypeHandler.put(IntegerTypeHandler.class, Arrays.asList("ID", "BIG_COL"));
+    columnsByTypeHandler.put(LongTypeHandler.class, Arrays.asList("BIG_COL", "ID"));
+    columnsByTypeHandler.put(FloatTypeHandler.class, Arrays.asList("REAL_COL"));
+    columnsByTypeHandler.put(DoubleTypeHandler.class, Arrays.asList("DOUBLE_COL", "DEC_COL"));
+    columnsByTypeHandler.put(BigDecimalTypeHandler.class, Arrays.asList("DEC_COL", "BIG_COL"));
+    columnsByTypeHandler.put(BigIntegerTypeHandler.class, Arrays.asList("BIG_COL"));
+    columnsByTypeHandler.put(StringTypeHandler.class, Arrays.asList("CHAR_COL", "CLOB_COL", "DEC_COL", "TS_COL"));
+    columnsByTypeHandler.put(CharacterTypeHandler.class, Arrays.asList("CHAR_COL"));
+    columnsByTypeHandler.put(NStringTypeHandler.class, Arrays.asList("CHAR_COL"));
+    columnsByTypeHandler.put(ClobTypeHandler.class, Arrays.asList("CLOB_COL", "CHAR_COL"));
+    columnsByTypeHandler.put(NClobTypeHandler.class, Arrays.asList("CLOB_COL"));
+    columnsByTypeHandler.put(ClobReaderTypeHandler.class, Arrays.asList("CLOB_COL"));
+    columnsByTypeHandler.put(SqlxmlTypeHandler.class, Arrays.asList("XML_COL"));
+    columnsByTypeHandler.put(ByteArrayTypeHandler.class, Arrays.asList("BIN_COL", "BLOB_COL"));
+    columnsByTypeHandler.put(ByteObjectArrayTypeHandler.class, Arrays.asList("BIN_COL"));
+    columnsByTypeHandler.put(BlobTypeHandler.class, Arrays.asList("BLOB_COL"));
+    columnsByTypeHandler.put(BlobByteObjectArrayTypeHandler.class, Arrays.asList("BLOB_COL"));
+    columnsByTypeHandler.put(BlobInputStreamTypeHandler.class, Arrays.asList("BLOB_COL"));
+    columnsByTypeHandler.put(ArrayTypeHandler.class, Arrays.asList("ARRAY_COL"));
+    columnsByTypeHandler.put(DateTypeHandler.class, Arrays.asList("TS_COL", "DATE_COL"));
+    columnsByTypeHandler.put(DateOnlyTypeHandler.class, Arrays.asList("DATE_COL", "TS_COL"));
+    columnsByTypeHandler.put(TimeOnlyTypeHandler.class, Arrays.asList("TIME_COL", "TS_COL"));
+    columnsByTypeHandler.put(SqlTimestampTypeHandler.class, Arrays.asList("TS_COL", "DATE_COL"));
+    columnsByTypeHandler.put(SqlDateTypeHandler.class, Arrays.asList("DATE_COL", "TS_COL"));
+    columnsByTypeHandler.put(SqlTimeTypeHandler.class, Arrays.asList("TIME_COL", "TS_COL"));
+    columnsByTypeHandler.put(InstantTypeHandler.class, Arrays.asList("TS_COL", "TSTZ_COL"));
+    columnsByTypeHandler.put(LocalDateTimeTypeHandler.class, Arrays.asList("TS_COL", "DATE_COL"));
+    columnsByTypeHandler.put(LocalDateTypeHandler.class, Arrays.asList("DATE_COL", "TS_COL"));
+    columnsByTypeHandler.put(LocalTimeTypeHandler.class, Arrays.asList("TIME_COL", "TS_COL"));
+    columnsByTypeHandler.put(OffsetDateTimeTypeHandler.class, Arrays.asList("TSTZ_COL"));
+    columnsByTypeHandler.put(OffsetTimeTypeHandler.class, Arrays.asList("TIMETZ_COL", "TSTZ_COL"));
+    columnsByTypeHandler.put(ZonedDateTimeTypeHandler.class, Arrays.asList("TSTZ_COL"));
+    columnsByTypeHandler.put(JapaneseDateTypeHandler.class, Arrays.asList("DATE_COL"));
+    columnsByTypeHandler.put(MonthTypeHandler.class, Arrays.asList("TINY_COL"));
+    columnsByTypeHandler.put(YearTypeHandler.class, Arrays.asList("SMALL_COL"));
+    columnsByTypeHandler.put(YearMonthTypeHandler.class, Arrays.asList("YM_COL"));
+
+    String sql = "select * from values_of_types order by id";
+    try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:buffered_result_set");
+        Statement statement = connection.createStatement()) {
+      statement.execute("create table values_of_types (id int, bool_col boolean, tiny_col tinyint, small_col smallint,"
+          + " big_col bigint, real_col real, double_col double, dec_col decimal(10, 2), char_col varchar(20),"
+          + " ym_col varchar(20), xml_col varchar(100), clob_col clob, bin_col varbinary(10), blob_col blob,"
+          + " date_col date, time_col time, timetz_col time with time zone, ts_col timestamp,"
+          + " tstz_col timestamp with time zone, array_col int array)");
+      statement.execute("insert into values_of_types values (1, true, 1, 2022, 3, 1.5, 2.5, 1000.50, 'P', '2022-01',"
+          + " '<pen/>', 'Long text', X'0102', X'0304', DATE '2022-01-02', TIME '03:04:05',"
+          + " TIME WITH TIME ZONE '03:04:05+09:00', TIMESTAMP '2022-01-02 03:04:05.123456',"
+          + " TIMESTAMP WITH TIME ZONE '2022-01-02 03:04:05+09:00', ARRAY[1, 2])");
+      statement.execute("insert into values_of_types (id) values (2)");
+      List<String> mismatches = new ArrayList<>();
+      try (Statement expectedStatement = connection.createStatement();
+          ResultSet expected = expectedStatement.executeQuery(sql);
+          Statement bufferedStatement = connection.createStatement();
+          ResultSet buffered = BufferedResultSet.buffer(bufferedStatement.executeQuery(sql))) {
+        while (expected.next()) {
+          assertTrue(buffered.next());
+          for (TypeHandler<?> typeHandler : new TypeHandlerRegistry().getTypeHandlers()) {
+            List<String> columns = columnsByTypeHandler.get(typeHandler.getClass());
+            assertNotNull(columns, "No column to read with " + typeHandler.getClass());
+            for (String column : columns) {
+              String name = typeHandler.getClass().getSimpleName() + " of " + column;
+              try {
+                Object expectedValue = readable(typeHandler.getResult(expected, column));
+                Object byLabel = readable(typeHandler.getResult(buffered, column));
+                Object byIndex = readable(typeHandler.getResult(buffered, buffered.findColumn(column)));
+                if (!Objects.equals(expectedValue, byLabel) || !Objects.equals(expectedValue, byIndex)) {
+                  mismatches.add(name + ": expected " + expectedValue + " but was " + byLabel);
+                }
+              } catch (Exception e) {
+                mismatches.add(name + ": " + e);
+              }
+            }
+          }
+        }
+        assertFalse(buffered.next());
+      }
+      assertEquals(Collections.emptyList(), mismatches);
+    }
+  }
+
+  private static Object readable(Object value) throws Exception {
+    if (value instanceof Blob) {
+      Blob blob = (Blob) value;
+      return readable(blob.getBytes(1, (int) blob.length()));
+    } else if (value instanceof Clob) {
+      Clob clob = (Clob) value;
+      return clob.getSubString(1, (int) clob.length());
+    } else if (value instanceof Array) {
+      return readable(((Array) value).getArray());
+    } else if (value instanceof InputStream) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (InputStream in = (InputStream) value) {
+        for (int b; (b = in.read()) != -1;) {
+          bytes.write(b);
+        }
+      }
+      return readable(bytes.toByteArray());
+    } else if (value instanceof Reader) {
+      StringBuilder chars = new StringBuilder();
+      try (Reader in = (Reader) value) {
+        for (int c; (c = in.read()) != -1;) {
+          chars.append((char) c);
+        }
+      }
+      return chars.toString();
+    } else if (value instanceof byte[]) {
+      return Arrays.toString((byte[]) value);
+    } else if (value instanceof Object[]) {
+      return Arrays.deepToString((Object[]) value);
+    } else if (value instanceof BigDecimal) {
+      return ((BigDecimal) value).stripTrailingZeros();
+    }
+    return value;
+  }
+
+  private ResultSet mockResultSet() throws SQLException {
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(3);
+    when(metaData.getColumnLabel(1)).thenReturn("ID");
+    when(metaData.getColumnLabel(2)).thenReturn("ITEM");
+    when(metaData.getColumnLabel(3)).thenReturn("CREATED_AT");
+    when(metaData.getColumnName(1)).thenReturn("ID");
+    when(metaData.getColumnName(2)).thenReturn("ITEM");
+    when(metaData.getColumnName(3)).thenReturn("CREATED_AT");
+    when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+    when(metaData.getColumnClassName(2)).thenReturn(String.class.getName());
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getMetaData()).thenReturn(metaData);
+    when(rs.next()).thenReturn(true, true, false);
+    when(rs.getObject(1)).thenReturn(1L, 2L);
+    when(rs.getObject(2)).thenReturn("Pen", null);
+    when(rs.getObject(3)).thenReturn(Timestamp.valueOf(LocalDateTime.of(2022, 1, 2, 3, 4, 5)), null);
+    return rs;
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+
+import org.apache.ibatis.type.IntegerTypeHandler;
+import org.apache.ibatis.type.StringTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+import org.junit.jupiter.api.Test;
+
+class RowKeyTest {
+
+  @Test
+  void shouldKeyRowsByIntegralId() throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getLong(1)).thenReturn(1L, 1L, 2L, 0L);
+    when(rs.wasNull()).thenReturn(false, false, false, true);
+    RowKey.Reader reader = new RowKey.Reader("user", null, new int[] { 1 },
+        new TypeHandler<?>[] { new IntegerTypeHandler() }, false);
+
+    RowKey first = reader.read(rs);
+    assertEquals(first, reader.read(rs));
+    assertNotEquals(first, reader.read(rs));
+    assertSame(RowKey.NULL_ROW_KEY, reader.read(rs));
+  }
+
+  @Test
+  void shouldKeyRowsByColumnValues() throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString(1)).thenReturn("a", "a", "a");
+    when(rs.getString(2)).thenReturn(null, "b", null);
+    RowKey.Reader reader = new RowKey.Reader("user", "U_", new int[] { 1, 2 }, null, false);
+    RowKey.Reader otherPrefixReader = new RowKey.Reader("user", "V_", new int[] { 1, 2 }, null, false);
+
+    RowKey first = reader.read(rs);
+    assertNotEquals(first, reader.read(rs));
+    assertNotEquals(first, otherPrefixReader.read(rs));
+  }
+
+  @Test
+  void shouldKeyEmptyRowsWhenAsked() throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    RowKey.Reader reader = new RowKey.Reader("user", null, new int[] { 1 },
+        new TypeHandler<?>[] { new StringTypeHandler() }, false);
+    RowKey.Reader emptyRowsReader = new RowKey.Reader("user", null, new int[] { 1 },
+        new TypeHandler<?>[] { new StringTypeHandler() }, true);
+
+    assertSame(RowKey.NULL_ROW_KEY, reader.read(rs));
+    assertEquals(emptyRowsReader.read(rs), emptyRowsReader.read(rs));
+  }
+
+  @Test
+  void shouldCombineWithParentKey() throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getLong(1)).thenReturn(1L, 2L);
+    when(rs.getLong(2)).thenReturn(10L);
+    RowKey.Reader parentReader = new RowKey.Reader("user", null, new int[] { 1 },
+        new TypeHandler<?>[] { new IntegerTypeHandler() }, false);
+    RowKey.Reader childReader = new RowKey.Reader("group", "G_", new int[] { 2 },
+        new TypeHandler<?>[] { new IntegerTypeHandler() }, false);
+    RowKey parent1 = parentReader.read(rs);
+    RowKey parent2 = parentReader.read(rs);
+    RowKey child = childReader.read(rs);
+
+    assertEquals(child.combine(parent1), child.combine(parent1));
+    assertNotEquals(child.combine(parent1), child.combine(parent2));
+    assertNotEquals(child, child.combine(parent1));
+    assertSame(RowKey.NULL_ROW_KEY, child.combine(RowKey.NULL_ROW_KEY));
+    assertSame(RowKey.NULL_ROW_KEY, RowKey.NULL_ROW_KEY.combine(parent1));
+  }
+
+}
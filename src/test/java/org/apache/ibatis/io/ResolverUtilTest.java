@@ -17,13 +17,24 @@ package org.apache.ibatis.io;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
 import org.apache.ibatis.annotations.CacheNamespace;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for {@link ResolverUtil}.
@@ -142,6 +153,111 @@ class ResolverUtilTest {
     assertTrue(annotatedWith.toString().contains("@" + CacheNamespace.class.getSimpleName()));
   }
 
+  @Test
+  void findIndexedClasses(@TempDir Path dir) throws Exception {
+    Path indexed = Files.createDirectories(dir.resolve("indexed"));
+    Path index = indexed.resolve(ResolverUtil.INDEX_RESOURCE);
+    Files.createDirectories(index.getParent());
+    Files.write(index, Arrays.asList("# indexed classes", "org.example.Indexed", "org.other.Other"));
+    Files.createDirectories(indexed.resolve("org/example"));
+    Files.createFile(indexed.resolve("org/example/Indexed.class"));
+    Files.createFile(indexed.resolve("org/example/NotIndexed.class"));
+    Path listed = Files.createDirectories(dir.resolve("listed/org/example"));
+    Files.createFile(listed.resolve("Listed.class"));
+    try (URLClassLoader loader = new URLClassLoader(
+        new URL[] { indexed.toUri().toURL(), dir.resolve("listed").toUri().toURL() }, currentContextClassLoader)) {
+      Set<String> expected = new HashSet<>(Arrays.asList("org/example/Indexed.class", "org/example/Listed.class"));
+      assertEquals(expected, findCandidates(loader, "org.example"));
+
+      // the index is read once per class loader
+      Files.delete(index);
+      assertEquals(expected, findCandidates(loader, "org.example"));
+    }
+  }
+
+  @Test
+  void findClassesOfIndexAndClassPath(@TempDir Path dir) throws Exception {
+    Path index = dir.resolve(ResolverUtil.INDEX_RESOURCE);
+    Files.createDirectories(index.getParent());
+    Files.write(index, Collections.singletonList("org.apache.ibatis.io.DefaultVFS"));
+    try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, currentContextClassLoader)) {
+      ResolverUtil<VFS> resolverUtil = new ResolverUtil<>();
+      resolverUtil.setClassLoader(loader);
+      resolverUtil.find(new ResolverUtil.IsA(VFS.class), "org.apache.ibatis.io");
+      assertTrue(resolverUtil.getClasses().contains(DefaultVFS.class));
+      assertTrue(resolverUtil.getClasses().contains(JBoss6VFS.class));
+    }
+  }
+
+  private Set<String> findCandidates(ClassLoader loader, String packageName) {
+    Set<String> candidates = new HashSet<>();
+    ResolverUtil<Object> resolverUtil = new ResolverUtil<Object>() {
+      @Override
+      protected void addIfMatching(ResolverUtil.Test test, String fqn) {
+        candidates.add(fqn);
+      }
+    };
+    resolverUtil.setClassLoader(loader);
+    // VFS looks the listed resources up from the context class loader
+    Thread.currentThread().setContextClassLoader(loader);
+    try {
+      resolverUtil.find(new ResolverUtil.IsA(Object.class), packageName);
+    } finally {
+      Thread.currentThread().setContextClassLoader(currentContextClassLoader);
+    }
+    return candidates;
+  }
+
+  @Test
+  void readClassFileHeader() {
+    ClassFileHeader header = ClassFileHeader.read(currentContextClassLoader, DefaultVFS.class.getName());
+    assertEquals(VFS.class.getName(), header.getSuperName());
+    assertTrue(header.getInterfaceNames().isEmpty());
+    header = ClassFileHeader.read(currentContextClassLoader, TestMapper.class.getName());
+    assertEquals(Object.class.getName(), header.getSuperName());
+    assertEquals(Collections.singletonList(CacheNamespace.class.getName()), header.getAnnotationNames());
+    assertNull(ClassFileHeader.read(currentContextClassLoader, "org.apache.ibatis.io.Xxx"));
+  }
+
+  @Test
+  void writeIndexOfCompiledClasses(@TempDir Path dir) throws Exception {
+    Path source = dir.resolve("src/org/example/Outer.java");
+    Files.createDirectories(source.getParent());
+    Files.write(source, Collections.singletonList("package org.example; public class Outer { interface Inner {} }"));
+    Path classes = Files.createDirectories(dir.resolve("classes"));
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assertEquals(0, compiler.run(null, null, null, "-proc:only", "-processor", ResolverIndexProcessor.class.getName(),
+        "-d", classes.toString(), source.toString()));
+    assertEquals(Arrays.asList("org.example.Outer", "org.example.Outer$Inner"),
+        Files.readAllLines(classes.resolve(ResolverUtil.INDEX_RESOURCE)));
+  }
+
+  @Test
+  void mergeIndexOfIncrementalBuild(@TempDir Path dir) throws Exception {
+    Path outer = dir.resolve("src/org/example/Outer.java");
+    Files.createDirectories(outer.getParent());
+    Files.write(outer, Collections.singletonList("package org.example; public class Outer { interface Inner {} }"));
+    Path other = dir.resolve("src/org/example/Other.java");
+    Files.write(other, Collections.singletonList("package org.example; public class Other {}"));
+    Path classes = Files.createDirectories(dir.resolve("classes"));
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assertEquals(0, compiler.run(null, null, null, "-processor", ResolverIndexProcessor.class.getName(),
+        "-d", classes.toString(), outer.toString(), other.toString()));
+    Files.delete(classes.resolve("org/example/Other.class"));
+
+    // only Outer is compiled again, Other was removed
+    assertEquals(0, compiler.run(null, null, null, "-processor", ResolverIndexProcessor.class.getName(),
+        "-d", classes.toString(), outer.toString()));
+    assertEquals(Arrays.asList("org.example.Outer", "org.example.Outer$Inner"),
+        Files.readAllLines(classes.resolve(ResolverUtil.INDEX_RESOURCE)));
+
+    Path added = dir.resolve("src/org/example/Added.java");
+    Files.write(added, Collections.singletonList("package org.example; public class Added {}"));
+    assertEquals(0, compiler.run(null, null, null, "-processor", ResolverIndexProcessor.class.getName(),
+        "-cp", classes.toString(), "-d", classes.toString(), added.toString()));
+    assertEquals(Arrays.asList("org.example.Added", "org.example.Outer", "org.example.Outer$Inner"),
+        Files.readAllLines(classes.resolve(ResolverUtil.INDEX_RESOURCE)));
+  }
 
   @CacheNamespace(readWrite = false)
   private interface TestMapper {
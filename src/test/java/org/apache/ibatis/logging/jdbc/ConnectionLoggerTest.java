@@ -15,14 +15,18 @@
  */
 package org.apache.ibatis.logging.jdbc;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.JDBCType;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.apache.ibatis.logging.Log;
@@ -41,6 +45,9 @@ class ConnectionLoggerTest {
   @Mock
   PreparedStatement preparedStatement;
 
+  @Mock
+  ResultSet resultSet;
+
   @Mock
   Log log;
 
@@ -71,4 +78,65 @@ class ConnectionLoggerTest {
     conn.close();
     verify(log, times(0)).debug(anyString());
   }
+
+  @Test
+  void shouldNotPrintStatementFasterThanThreshold() throws SQLException {
+    when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    Connection slowConn = ConnectionLogger.newInstance(connection, log, 1, 60_000);
+
+    PreparedStatement ps = slowConn.prepareStatement("select 1 limit ?");
+    ps.setInt(1, 10);
+    ResultSet rs = ps.executeQuery();
+
+    verify(log, times(0)).debug(anyString());
+    assertSame(resultSet, rs);
+  }
+
+  @Test
+  void shouldPrintStatementSlowerThanThreshold() throws SQLException {
+    when(log.isDebugEnabled()).thenReturn(true);
+    when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+    when(preparedStatement.executeUpdate()).thenAnswer(invocation -> {
+      Thread.sleep(20);
+      return 1;
+    });
+    Connection slowConn = ConnectionLogger.newInstance(connection, log, 1, 10);
+
+    PreparedStatement ps = slowConn.prepareStatement("update test set id = ?");
+    ps.setInt(1, 10);
+    ps.executeUpdate();
+
+    verify(log).debug(contains("Preparing: update test set id = ?"));
+    verify(log).debug(contains("Parameters: 10(Integer)"));
+    verify(log).debug(contains("Elapsed: "));
+  }
+
+  @Test
+  void shouldForwardSqlTypeParametersAndLargeUpdates() throws SQLException {
+    when(log.isDebugEnabled()).thenReturn(true);
+    when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+    when(preparedStatement.executeLargeUpdate()).thenReturn(1L);
+
+    PreparedStatement ps = conn.prepareStatement("update test set id = ?");
+    ps.setObject(1, 10, JDBCType.INTEGER);
+    ps.executeLargeUpdate();
+
+    verify(preparedStatement).setObject(1, 10, JDBCType.INTEGER);
+    verify(preparedStatement).executeLargeUpdate();
+    verify(log).debug(contains("Parameters: 10(Integer)"));
+  }
+
+  @Test
+  void shouldForwardJdbc43Methods() throws Exception {
+    Method beginRequest;
+    try {
+      beginRequest = Connection.class.getMethod("beginRequest");
+    } catch (NoSuchMethodException e) {
+      return; // not available before Java 9
+    }
+    beginRequest.invoke(conn);
+
+    beginRequest.invoke(verify(connection));
+  }
 }
@@ -21,9 +21,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.CallableStatement;
+import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.apache.ibatis.logging.Log;
 import org.apache.ibatis.type.JdbcType;
@@ -78,6 +83,13 @@ class PreparedStatementLoggerTest {
     Assertions.assertTrue(result);
   }
 
+  @Test
+  void shouldUnwrapStatement() throws SQLException {
+    when(preparedStatement.unwrap(PreparedStatement.class)).thenReturn(preparedStatement);
+
+    Assertions.assertSame(preparedStatement, ps.unwrap(PreparedStatement.class));
+  }
+
   @Test
   void shouldNotPrintLog() throws SQLException {
     ps.getResultSet();
@@ -95,4 +107,42 @@ class PreparedStatementLoggerTest {
 
     verify(log).debug(contains("Updates: 1"));
   }
+
+  @Test
+  void shouldForwardSqlTypeParametersAndPrintLargeUpdate() throws SQLException {
+    when(log.isDebugEnabled()).thenReturn(true);
+    when(preparedStatement.executeLargeUpdate()).thenReturn(3L);
+
+    ps.setObject(1, 10, JDBCType.INTEGER);
+    ps.setObject(2, "a", JDBCType.VARCHAR, 1);
+    long result = ps.executeLargeUpdate();
+
+    verify(preparedStatement).setObject(1, 10, JDBCType.INTEGER);
+    verify(preparedStatement).setObject(2, "a", JDBCType.VARCHAR, 1);
+    verify(log).debug(contains("Parameters: 10(Integer), a(String)"));
+    Assertions.assertEquals(3L, result);
+  }
+
+  @Test
+  void shouldForwardJdbc43Methods() throws Exception {
+    Method enquoteLiteral;
+    try {
+      enquoteLiteral = Statement.class.getMethod("enquoteLiteral", String.class);
+    } catch (NoSuchMethodException e) {
+      return; // not available before Java 9
+    }
+    when(enquoteLiteral.invoke(preparedStatement, "a")).thenReturn("<a>");
+
+    Assertions.assertEquals("<a>", enquoteLiteral.invoke(ps, "a"));
+  }
+
+  @Test
+  void shouldOverrideEveryDefaultMethod() throws NoSuchMethodException {
+    for (Method method : CallableStatement.class.getMethods()) {
+      if (method.isDefault()) {
+        Method forwarder = DelegatingPreparedStatement.class.getMethod(method.getName(), method.getParameterTypes());
+        Assertions.assertFalse(Modifier.isInterface(forwarder.getDeclaringClass().getModifiers()), method::toString);
+      }
+    }
+  }
 }
@@ -18,12 +18,15 @@ package org.apache.ibatis.logging.jdbc;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 
 import org.apache.ibatis.logging.Log;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -67,4 +70,14 @@ class ResultSetLoggerTest {
     verify(log).trace("<==        Row: value");
   }
 
+
+  @Test
+  void shouldOverrideEveryDefaultMethod() throws NoSuchMethodException {
+    for (Method method : ResultSet.class.getMethods()) {
+      if (method.isDefault()) {
+        Method forwarder = DelegatingResultSet.class.getMethod(method.getName(), method.getParameterTypes());
+        Assertions.assertFalse(Modifier.isInterface(forwarder.getDeclaringClass().getModifiers()), method::toString);
+      }
+    }
+  }
 }
@@ -16,11 +16,14 @@
 package org.apache.ibatis.parsing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -256,4 +259,22 @@ class XPathParserTest {
     assertEquals(carsNodeToStringExpect, carsNodeToString);
   }
 
+  @Test
+  void evalChildPathShouldSelectSameNodesAsXPath() {
+    XPathParser parser = new XPathParser("<users><user><name>Tom</name><cars><car>BMW</car><bike>BMX</bike><car>Audi</car></cars></user>"
+        + "<user><name>Bob</name><cars><car>Benz</car></cars></user></users>");
+    XNode users = parser.evalNode("/users");
+    assertEquals("[Tom, Bob]", bodies(parser.evalNodes("/users/user/name")));
+    assertEquals("[BMW, BMX, Audi, Benz]", bodies(users.evalNodes("user/cars/*")));
+    assertEquals("[BMW, BMX, Audi]", bodies(users.evalNode("user/cars").evalNodes("car|bike")));
+    assertEquals("[BMX]", bodies(users.evalNode("user/cars").evalNodes("bike")));
+    assertEquals("Tom", users.evalNode("user/name").getStringBody());
+    assertEquals("users", users.evalNode("user/cars").evalNode("/users").getName());
+    assertNull(users.evalNode("user/address"));
+  }
+
+  private static String bodies(List<XNode> nodes) {
+    return nodes.stream().map(XNode::getStringBody).collect(Collectors.toList()).toString();
+  }
+
 }
@@ -61,6 +61,35 @@ class DefaultObjectFactoryTest {
     }
   }
 
+  @Test
+  void createClassWithCachedConstructor() {
+    DefaultObjectFactory defaultObjectFactory = new DefaultObjectFactory();
+    List<Class<?>> constructorArgTypes = new ArrayList<>(Arrays.asList(String.class, Integer.class));
+    defaultObjectFactory.create(TestClass.class, constructorArgTypes, Arrays.asList("foo", 0));
+    constructorArgTypes.set(1, String.class);
+
+    TestClass testClass = defaultObjectFactory.create(TestClass.class,
+        Arrays.asList(String.class, Integer.class), Arrays.asList("bar", 1));
+    Assertions.assertEquals((Integer) 1, testClass.myInteger, "myInteger didn't match expected");
+    Assertions.assertEquals("bar", testClass.myString, "myString didn't match expected");
+    try {
+      defaultObjectFactory.create(TestClass.class, constructorArgTypes, Arrays.asList("foo", "0"));
+      Assertions.fail("Should have thrown ReflectionException");
+    } catch (Exception e) {
+      Assertions.assertTrue(e instanceof ReflectionException, "Should be ReflectionException");
+    }
+  }
+
+  @Test
+  void shouldWrapErrorsOfConstructor() {
+    DefaultObjectFactory defaultObjectFactory = new DefaultObjectFactory();
+    ReflectionException e = Assertions.assertThrows(ReflectionException.class,
+        () -> defaultObjectFactory.create(FailingClass.class));
+    Assertions.assertTrue(e.getCause() instanceof AssertionError);
+    Assertions.assertThrows(ReflectionException.class, () -> defaultObjectFactory.create(FailingClass.class,
+        Collections.singletonList(String.class), Collections.singletonList("foo")));
+  }
+
   @Test
   void createHashMap() {
      DefaultObjectFactory defaultObjectFactory=new DefaultObjectFactory();
@@ -94,4 +123,15 @@ class DefaultObjectFactoryTest {
     Set set = defaultObjectFactory.create(Set.class);
     Assertions.assertTrue(set instanceof HashSet, " set should be HashSet");
   }
+
+  public static class FailingClass {
+    public FailingClass() {
+      throw new AssertionError("constructor failed");
+    }
+
+    public FailingClass(String message) {
+      throw new IllegalStateException(message);
+    }
+  }
+
 }
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
+import org.apache.ibatis.scripting.xmltags.ForEachSqlNode;
+import org.apache.ibatis.scripting.xmltags.MixedSqlNode;
+import org.apache.ibatis.scripting.xmltags.StaticTextSqlNode;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class PropertyTokenizerTest {
+
+  @Test
+  void shouldTokenizePath() {
+    PropertyTokenizer tokenizer = PropertyTokenizer.forPath("order.items[0].name");
+    assertEquals("order", tokenizer.getName());
+    assertEquals("order", tokenizer.getIndexedName());
+    assertNull(tokenizer.getIndex());
+    assertEquals("items[0].name", tokenizer.getChildren());
+    assertTrue(tokenizer.hasNext());
+
+    PropertyTokenizer items = tokenizer.next();
+    assertEquals("items", items.getName());
+    assertEquals("items[0]", items.getIndexedName());
+    assertEquals("0", items.getIndex());
+
+    PropertyTokenizer name = items.next();
+    assertEquals("name", name.getName());
+    assertFalse(name.hasNext());
+  }
+
+  @Test
+  void shouldReuseTokenizedPaths() {
+    PropertyTokenizer tokenizer = PropertyTokenizer.forPath("customer.address.city");
+    assertSame(tokenizer, PropertyTokenizer.forPath("customer.address.city"));
+    assertSame(tokenizer.next(), tokenizer.next());
+    assertSame(tokenizer.next(), PropertyTokenizer.forPath("address.city"));
+  }
+
+  @Test
+  void shouldKeepCachingPathsAfterLargeForEach() {
+    List<Integer> ids = new ArrayList<>();
+    List<Map<String, Integer>> rows = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      ids.add(i);
+      rows.add(Collections.singletonMap("id", i));
+    }
+    // binds __frch_item_0[i] names
+    bindForEach(" #{item} ", ids);
+    // binds __frch_item_i.id names
+    bindForEach(" #{item.id} ", rows);
+
+    assertSame(PropertyTokenizer.forPath("invoice.customer.name"), PropertyTokenizer.forPath("invoice.customer.name"));
+  }
+
+  private void bindForEach(String body, List<?> items) {
+    Configuration configuration = new Configuration();
+    DynamicSqlSource source = new DynamicSqlSource(configuration, new ForEachSqlNode(configuration,
+        new MixedSqlNode(Collections.singletonList(new StaticTextSqlNode(body))), "list", null, null, null, "item", "(",
+        ")", ","));
+    BoundSql boundSql = source.getBoundSql(Collections.singletonMap("list", items));
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      boundSql.getAdditionalParameter(parameterMapping.getProperty());
+    }
+  }
+
+}
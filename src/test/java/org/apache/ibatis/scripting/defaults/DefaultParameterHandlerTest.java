@@ -19,16 +19,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.domain.blog.Author;
+import org.apache.ibatis.domain.blog.Section;
 import org.apache.ibatis.mapping.*;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
@@ -70,6 +75,41 @@ class DefaultParameterHandlerTest {
 
   }
 
+  @Test
+  void setParametersOfStaticSql() throws SQLException {
+    final Configuration config = new Configuration();
+    RawSqlSource sqlSource = new RawSqlSource(config,
+        "select * from blog where author_id = #{author.id} and title = #{title} and id = #{ids[1]} and bio = #{author.bio}", Map.class);
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testSelect", sqlSource, SqlCommandType.SELECT).build();
+    Map<String, Object> parameterObject = new HashMap<>();
+    parameterObject.put("author", new Author(101, "jim", "********", "jim@ibatis.apache.org", null, Section.NEWS));
+    parameterObject.put("title", "Corn nuts");
+    parameterObject.put("ids", Arrays.asList(1, 2));
+
+    // the second execution reuses the binding plan of the first one
+    for (int i = 0; i < 2; i++) {
+      PreparedStatement ps = mock(PreparedStatement.class);
+      new DefaultParameterHandler(mappedStatement, parameterObject, sqlSource.getBoundSql(parameterObject)).setParameters(ps);
+      verify(ps).setInt(1, 101);
+      verify(ps).setString(2, "Corn nuts");
+      verify(ps).setInt(3, 2);
+      verify(ps).setNull(4, JdbcType.OTHER.TYPE_CODE);
+    }
+  }
+
+  @Test
+  void keepBindingPlansPerParameterType() {
+    final Configuration config = new Configuration();
+    RawSqlSource sqlSource = new RawSqlSource(config, "select * from author where id = #{id}", null);
+    List<ParameterMapping> parameterMappings = sqlSource.getBoundSql(null).getParameterMappings();
+
+    ParameterBindingPlan mapPlan = sqlSource.getParameterBindingPlan(config, parameterMappings, HashMap.class);
+    ParameterBindingPlan authorPlan = sqlSource.getParameterBindingPlan(config, parameterMappings, Author.class);
+    Assertions.assertNotSame(mapPlan, authorPlan);
+    Assertions.assertSame(mapPlan, sqlSource.getParameterBindingPlan(config, parameterMappings, HashMap.class));
+    Assertions.assertSame(authorPlan, sqlSource.getParameterBindingPlan(config, parameterMappings, Author.class));
+  }
+
   MappedStatement getMappedStatement() {
     final Configuration config = new Configuration();
     final TypeHandlerRegistry registry = config.getTypeHandlerRegistry();
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigurationTest {
+
+  @Test
+  void shouldSampleStatementLogsPerConfiguration() {
+    Configuration first = new Configuration();
+    first.setLogSamplingInterval(2);
+    Configuration second = new Configuration();
+    second.setLogSamplingInterval(2);
+
+    assertTrue(first.isNextStatementLogSampled());
+    assertTrue(second.isNextStatementLogSampled());
+    assertFalse(first.isNextStatementLogSampled());
+    assertFalse(second.isNextStatementLogSampled());
+    assertTrue(first.isNextStatementLogSampled());
+  }
+
+}
@@ -159,6 +159,31 @@ class SqlSessionTest extends BaseDataTest {
     }
   }
 
+  @Test
+  void shouldSelectWithResolvedMappedStatement() {
+    try (SqlSession session = sqlMapper.openSession(TransactionIsolationLevel.SERIALIZABLE)) {
+      Configuration configuration = session.getConfiguration();
+      MappedStatement ms = configuration.getMappedStatement("org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAllAuthors");
+      List<Author> authors = session.selectList(ms, null, RowBounds.DEFAULT);
+      assertEquals(2, authors.size());
+      Map<Integer, Author> authorsById = session.selectMap(ms, null, "id", new RowBounds(0, 1));
+      assertEquals(1, authorsById.size());
+      Author author = session.selectOne(configuration.getMappedStatement("org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAuthor"), 101);
+      assertEquals(101, author.getId());
+    }
+  }
+
+  @Test
+  void shouldInsertAndDeleteWithResolvedMappedStatement() {
+    try (SqlSession session = Mockito.spy(sqlMapper.openSession())) {
+      AuthorMapper mapper = session.getConfiguration().getMapper(AuthorMapper.class, session);
+      mapper.insertAuthor(new Author(500, "cbegin", "******", "cbegin@somewhere.com", "Something...", null));
+      assertEquals(1, mapper.deleteAuthor(500));
+      Mockito.verify(session).insert(Mockito.any(MappedStatement.class), Mockito.any());
+      Mockito.verify(session).delete(Mockito.any(MappedStatement.class), Mockito.any());
+    }
+  }
+
   @Test
   void shouldFailWithTooManyResultsException() {
     try (SqlSession session = sqlMapper.openSession(TransactionIsolationLevel.SERIALIZABLE)) {
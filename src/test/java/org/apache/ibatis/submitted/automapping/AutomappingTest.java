@@ -157,6 +157,25 @@ class AutomappingTest {
     }
   }
 
+  @Test
+  void shouldSetPrimitivePropertiesWithoutBoxing() {
+    sqlSessionFactory.getConfiguration().setAutoMappingBehavior(AutoMappingBehavior.PARTIAL);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Score> scores = mapper.getScores();
+      Assertions.assertEquals(7, scores.get(0).getPoints());
+      Assertions.assertEquals(12345678901L, scores.get(0).getTotal());
+      Assertions.assertEquals(0.5, scores.get(0).getRatio());
+      Assertions.assertFalse(scores.get(0).isActive());
+      // null columns leave primitive properties untouched
+      Assertions.assertEquals(-1, scores.get(1).getPoints());
+      Assertions.assertEquals(-1L, scores.get(1).getTotal());
+      Assertions.assertEquals(-1.0, scores.get(1).getRatio());
+      Assertions.assertEquals(1, scores.get(2).getPoints());
+      Assertions.assertTrue(scores.get(2).isActive());
+    }
+  }
+
   @Test
   void shouldUpdateFinalField() {
     // set automapping to default partial
@@ -18,6 +18,8 @@ drop table users if exists;
 
 drop table books if exists;
 
+drop table scores if exists;
+
 create table users (
   id int,
   name varchar(20),
@@ -30,6 +32,14 @@ create table books (
   name varchar(20)
 );
 
+create table scores (
+  id int,
+  points int,
+  total bigint,
+  ratio double,
+  active boolean
+);
+
 create table pets (
   id int,
   owner int,
@@ -48,6 +58,10 @@ insert into users (id, name, phone, phone_number) values(2, 'User2', '+86 123456
 
 insert into books (version, name) values(99, 'Learn Java');
 
+insert into scores (id, points, total, ratio, active) values(1, 7, 12345678901, 0.5, false);
+insert into scores (id, points, total, ratio, active) values(2, null, null, null, true);
+insert into scores (id, points, total, ratio, active) values(3, 1, 2, 3.0, null);
+
 insert into pets (id, owner, breeder, name) values(11, 1, null, 'Ren');
 insert into pets (id, owner, breeder, name) values(12, 2, 101, 'Chien');
 insert into pets (id, owner, breeder, name) values(13, 2, null, 'Kotetsu');
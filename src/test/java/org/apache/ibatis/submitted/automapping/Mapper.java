@@ -30,4 +30,6 @@ public interface Mapper {
   List<Book> getBooks();
 
   Article getArticle();
+
+  List<Score> getScores();
 }
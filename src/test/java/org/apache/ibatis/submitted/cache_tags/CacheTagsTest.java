@@ -0,0 +1,201 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.cache_tags;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheTagVersions;
+import org.apache.ibatis.cache.decorators.TransactionalCache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheTagsTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/cache_tags/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/cache_tags/CreateDB.sql");
+  }
+
+  @Test
+  void shouldParseCacheTags() {
+    assertEquals(Arrays.asList("person", "pet"), Arrays.asList(sqlSessionFactory.getConfiguration()
+        .getMappedStatement("org.apache.ibatis.submitted.cache_tags.Mapper.getOwnerNames").getCacheTags()));
+  }
+
+  @Test
+  void shouldKeepEntriesOfOtherTags() {
+    List<String> persons = selectPersonNames();
+    List<String> pets = selectPetNames();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).insertPet(2, "Pet2", 1);
+      sqlSession.commit();
+    }
+    assertSame(persons, selectPersonNames());
+    List<String> newPets = selectPetNames();
+    assertNotSame(pets, newPets);
+    assertEquals(Arrays.asList("Pet1", "Pet2"), newPets);
+  }
+
+  @Test
+  void shouldEvictEntriesSharingAnyTag() {
+    List<String> owners = selectOwnerNames();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).insertPerson(2, "Person2");
+      sqlSession.commit();
+    }
+    assertNotSame(owners, selectOwnerNames());
+  }
+
+  @Test
+  void shouldNotEvictBeforeCommit() {
+    List<String> pets = selectPetNames();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      mapper.insertPet(2, "Pet2", 1);
+      assertEquals(Arrays.asList("Pet1", "Pet2"), mapper.getPetNames());
+      assertSame(pets, selectPetNames());
+      sqlSession.rollback();
+    }
+    assertSame(pets, selectPetNames());
+  }
+
+  @Test
+  void shouldClearWholeCacheWhenStatementHasNoTags() {
+    List<String> persons = selectPersonNames();
+    List<String> pets = selectPetNames();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).deleteAllPets();
+      sqlSession.commit();
+    }
+    assertNotSame(persons, selectPersonNames());
+    assertNotSame(pets, selectPetNames());
+    assertEquals(0, selectPetNames().size());
+  }
+
+  @Test
+  void shouldEvictUntaggedEntriesOnTaggedWrite() {
+    List<String> names = selectAllNames();
+    List<String> persons = selectPersonNames();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).insertPet(2, "Pet2", 1);
+      sqlSession.commit();
+    }
+    List<String> newNames = selectAllNames();
+    assertNotSame(names, newNames);
+    assertEquals(Arrays.asList("Person1", "Pet1", "Pet2"), newNames);
+    assertSame(persons, selectPersonNames());
+    // untagged entries stored after the write are cached again
+    assertSame(newNames, selectAllNames());
+  }
+
+  @Test
+  void shouldNotStoreTagVersionsInCache() {
+    selectPersonNames();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).insertPet(2, "Pet2", 1);
+      sqlSession.commit();
+    }
+    selectPetNames();
+    Cache cache = sqlSessionFactory.getConfiguration().getCache("org.apache.ibatis.submitted.cache_tags.Mapper");
+    assertEquals(2, cache.getSize());
+  }
+
+  @Test
+  void shouldTreatTaggedEntriesAsStaleWithoutTagVersions() {
+    Cache delegate = new PerpetualCache("tagged");
+    TransactionalCache tagAware = new TransactionalCache(delegate, new CacheTagVersions());
+    tagAware.putObject("key", "value", new String[] { "pet" });
+    tagAware.commit();
+
+    TransactionalCache legacy = new TransactionalCache(delegate);
+    assertNull(legacy.getObject("key"));
+    legacy.putObject("other", "value");
+    legacy.invalidate(new String[] { "person" });
+    legacy.commit();
+    assertEquals(0, delegate.getSize());
+  }
+
+  @Test
+  void shouldKeepTagVersionsOfBuiltInCacheOnly() {
+    Configuration configuration = new Configuration();
+    MapperBuilderAssistant assistant = new MapperBuilderAssistant(configuration, "builtIn.xml");
+    assistant.setCurrentNamespace("builtIn");
+    Cache builtIn = assistant.useNewCache(null, null, null, null, true, false, new Properties());
+    assistant = new MapperBuilderAssistant(configuration, "custom.xml");
+    assistant.setCurrentNamespace("custom");
+    Cache custom = assistant.useNewCache(CustomCache.class, null, null, null, true, false, new Properties());
+    assertNotNull(configuration.getCacheTagVersions(builtIn.getId()));
+    assertNull(configuration.getCacheTagVersions(custom.getId()));
+  }
+
+  public static class CustomCache extends PerpetualCache {
+    public CustomCache(String id) {
+      super(id);
+    }
+  }
+
+  private List<String> selectPersonNames() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.getMapper(Mapper.class).getPersonNames();
+    }
+  }
+
+  private List<String> selectPetNames() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.getMapper(Mapper.class).getPetNames();
+    }
+  }
+
+  private List<String> selectAllNames() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.getMapper(Mapper.class).getAllNames();
+    }
+  }
+
+  private List<String> selectOwnerNames() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.getMapper(Mapper.class).getOwnerNames();
+    }
+  }
+
+}
@@ -16,7 +16,9 @@
 package org.apache.ibatis.submitted.cursor_nested;
 
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.cursor.Cursor;
@@ -88,6 +90,43 @@ class CursorNestedTest {
     Assertions.assertFalse(usersCursor.isOpen());
   }
 
+  @Test
+  void shouldGetAllUserByOrderedResultMap() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Iterator<User> iterator = mapper.getAllUsersByOrderedResultMap().iterator();
+
+      User user = iterator.next();
+      Assertions.assertEquals(2, user.getGroups().size());
+      Assertions.assertEquals(3, user.getRoles().size());
+
+      user = iterator.next();
+      Assertions.assertEquals(1, user.getGroups().size());
+      Assertions.assertEquals(3, user.getRoles().size());
+
+      user = iterator.next();
+      Assertions.assertEquals(3, user.getGroups().size());
+      Assertions.assertEquals(1, user.getRoles().size());
+
+      user = iterator.next();
+      Assertions.assertEquals(2, user.getGroups().size());
+      Assertions.assertEquals(2, user.getRoles().size());
+
+      Assertions.assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test
+  void shouldHandleResultsByOrderedResultMap() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<User> users = new ArrayList<>();
+      sqlSession.select("getAllUsersByOrderedResultMap", context -> users.add((User) context.getResultObject()));
+      Assertions.assertEquals(4, users.size());
+      Assertions.assertEquals(3, users.get(0).getRoles().size());
+      Assertions.assertEquals(2, users.get(3).getGroups().size());
+    }
+  }
+
   @Test
   void testCursorWithRowBound() {
     try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -0,0 +1,149 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.lazy_statements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LazyStatementsTest {
+
+  private static final String NAMESPACE = "org.apache.ibatis.submitted.lazy_statements.Mapper.";
+
+  private SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/lazy_statements/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/lazy_statements/CreateDB.sql");
+  }
+
+  @Test
+  void shouldDeferStatementsWithoutSelectKey() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    assertNotNull(configuration.getLazyStatement(NAMESPACE + "getUser"));
+    assertNotNull(configuration.getLazyStatement(NAMESPACE + "getUserName"));
+    assertNull(configuration.getLazyStatement(NAMESPACE + "insertUser"));
+    assertTrue(configuration.hasStatement(NAMESPACE + "getUser"));
+    assertTrue(configuration.getMappedStatementNames().contains(NAMESPACE + "getUser"));
+  }
+
+  @Test
+  void shouldBuildStatementOnFirstUse() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      User user = mapper.getUser(1);
+      assertEquals("User1", user.getName());
+      assertEquals("User2", mapper.getUserName(2));
+
+      user = new User();
+      user.setName("User3");
+      mapper.insertUser(user);
+      assertEquals(3, user.getId());
+      assertEquals("User3", mapper.getUser(3).getName());
+    }
+  }
+
+  @Test
+  void shouldBuildStatementOnce() throws Exception {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<MappedStatement>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> configuration.getMappedStatement(NAMESPACE + "getUser")));
+      }
+      MappedStatement ms = configuration.getMappedStatement(NAMESPACE + "getUser");
+      for (Future<MappedStatement> future : futures) {
+        assertSame(ms, future.get());
+      }
+      assertEquals(NAMESPACE + "user", ms.getResultMaps().get(0).getId());
+      assertSame(ms, configuration.getMappedStatement("getUser"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldRejectShortNameOfEagerAndLazyStatements() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    SqlSource sqlSource = new StaticSqlSource(configuration, "select name from users");
+    configuration.addMappedStatement(
+        new MappedStatement.Builder(configuration, "other.Mapper.getUser", sqlSource, SqlCommandType.SELECT).build());
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> configuration.getMappedStatement("getUser"));
+    assertTrue(e.getMessage().contains("getUser is ambiguous"));
+    assertEquals(NAMESPACE + "getUser", configuration.getMappedStatement(NAMESPACE + "getUser").getId());
+    assertEquals("other.Mapper.getUser", configuration.getMappedStatement("other.Mapper.getUser").getId());
+  }
+
+  @Test
+  void shouldBuildAllStatementsWhenListed() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    assertTrue(configuration.getMappedStatements().contains(configuration.getMappedStatement(NAMESPACE + "getUserName")));
+    assertEquals("hsql", configuration.getMappedStatement(NAMESPACE + "getUserName").getDatabaseId());
+  }
+
+  @Test
+  void shouldBuildLazyStatementsWhenFrozen() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    configuration.freeze();
+    assertTrue(configuration.isFrozen());
+    assertNull(configuration.getLazyStatement(NAMESPACE + "getUser"));
+    MappedStatement ms = configuration.getMappedStatement(NAMESPACE + "getUser");
+    assertSame(ms, configuration.getMappedStatement("getUser"));
+    assertTrue(configuration.hasStatement(NAMESPACE + "getUserName"));
+    assertTrue(configuration.getMappedStatements().contains(ms));
+    assertThrows(IllegalStateException.class, () -> configuration.addMappedStatement(ms));
+
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertEquals("User1", mapper.getUser(1).getName());
+      assertEquals("User2", mapper.getUserName(2));
+    }
+  }
+
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -97,7 +98,8 @@ class OptionalOnMapperMethodTest {
       User mockUser = new User();
       mockUser.setName("mock user");
       Optional<User> optionalMockUser = Optional.of(mockUser);
-      doReturn(optionalMockUser).when(sqlSession).selectOne(any(String.class), any(Object.class));
+      // mapper methods call the MappedStatement overloads, see DefaultSqlSession
+      doReturn(optionalMockUser).when(sqlSession).selectOne(any(MappedStatement.class), any(Object.class));
 
       Mapper mapper = sqlSession.getMapper(Mapper.class);
       Optional<User> user = mapper.getUserUsingAnnotation(3);
@@ -0,0 +1,28 @@
+--
+--    Copyright 2009-2022 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       http://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+
+drop table persons if exists;
+
+create table persons (
+  id int,
+  name varchar(20),
+  age int
+);
+
+insert into persons (id, name, age) values(1, 'Alice', 30);
+insert into persons (id, name, age) values(2, 'Bob', null);
+insert into persons (id, name, age) values(3, 'Carol', 40);
@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.result_object_constructor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.factory.DefaultObjectFactory;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResultObjectConstructorTest {
+
+  private SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/result_object_constructor/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/result_object_constructor/CreateDB.sql");
+  }
+
+  @Test
+  void shouldCreateImmutableObjectsWithConstructorMapping() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Person> persons = sqlSession.getMapper(Mapper.class).getPersons();
+      assertEquals(2, persons.size());
+      assertPerson(persons.get(0), 1, "Alice", 30);
+      assertPerson(persons.get(1), 3, "Carol", 40);
+    }
+  }
+
+  @Test
+  void shouldCreateObjectsWithConstructorMatchingColumns() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Subject> subjects = sqlSession.getMapper(Mapper.class).getSubjects();
+      assertEquals(3, subjects.size());
+      assertEquals(Integer.valueOf(1), subjects.get(0).getId());
+      assertEquals("Alice", subjects.get(0).getName());
+      assertEquals(Integer.valueOf(30), subjects.get(0).getAge());
+      assertEquals(Integer.valueOf(2), subjects.get(1).getId());
+      assertEquals("Bob", subjects.get(1).getName());
+      assertNull(subjects.get(1).getAge());
+      assertEquals("Carol", subjects.get(2).getName());
+    }
+  }
+
+  @Test
+  void shouldCreateObjectsWithCustomObjectFactory() {
+    RecordingObjectFactory objectFactory = new RecordingObjectFactory();
+    sqlSessionFactory.getConfiguration().setObjectFactory(objectFactory);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Person> persons = mapper.getPersons();
+      assertPerson(persons.get(0), 1, "Alice", 30);
+      assertPerson(persons.get(1), 3, "Carol", 40);
+      assertEquals(3, mapper.getSubjects().size());
+    }
+    assertEquals(5, objectFactory.constructorArgTypes.size());
+    assertEquals("[Integer, String, int]", objectFactory.constructorArgTypes.get(0));
+    assertEquals("[Integer, String, Integer]", objectFactory.constructorArgTypes.get(4));
+  }
+
+  @Test
+  void shouldReportNullForPrimitiveConstructorArgument() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      PersistenceException e = assertThrows(PersistenceException.class, () -> mapper.getPerson(2));
+      assertTrue(e.getCause() instanceof ReflectionException);
+      assertTrue(e.getMessage().contains("Error instantiating " + Person.class
+          + " with invalid types (Integer,String,int) or values (2,Bob,null)."), e.getMessage());
+    }
+  }
+
+  private static void assertPerson(Person person, int id, String name, int age) {
+    assertEquals(Integer.valueOf(id), person.getId());
+    assertEquals(name, person.getName());
+    assertEquals(age, person.getAge());
+  }
+
+  static class RecordingObjectFactory extends DefaultObjectFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    final List<String> constructorArgTypes = new ArrayList<>();
+
+    @Override
+    public <T> T create(Class<T> type, List<Class<?>> constructorArgTypes, List<Object> constructorArgs) {
+      if (constructorArgTypes != null) {
+        List<String> names = new ArrayList<>();
+        constructorArgTypes.forEach(argType -> names.add(argType.getSimpleName()));
+        this.constructorArgTypes.add(names.toString());
+      }
+      return super.create(type, constructorArgTypes, constructorArgs);
+    }
+  }
+
+}
@@ -20,6 +20,7 @@ import java.util.Map;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.SelectKey;
 import org.apache.ibatis.annotations.Update;
 
@@ -51,6 +52,16 @@ public interface AnnotatedMapper {
   @SelectKey(statement = "call next value for TestSequence", keyProperty = "nameId", before = true, resultType = int.class)
   int insertTable3(Name name);
 
+  @Insert("insert into table3 (id, name) values(#{nameId}, #{name})")
+  @SelectKey(statement = "select next value for TestSequence from unnest(sequence_array(1, cast(#{blockSize} as int), 1))",
+      keyProperty = "nameId", before = true, resultType = int.class, blockSize = 2)
+  int insertTable3WithBlockSelectKey(Name name);
+
+  int insertTable3WithBlockSelectKeyXml(Name name);
+
+  @Select("call next value for TestSequence")
+  int selectNextSequenceValue();
+
   @InsertProvider(type = SqlProvider.class, method = "insertTable3_2")
   @SelectKey(statement = "call next value for TestSequence", keyProperty = "nameId", before = true, resultType = int.class)
   int insertTable3_2(Name name);
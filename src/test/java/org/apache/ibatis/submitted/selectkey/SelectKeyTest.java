@@ -24,6 +24,7 @@ import java.util.Map;
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -331,6 +332,37 @@ class SelectKeyTest {
     }
   }
 
+  @Test
+  void testAnnotatedInsertTable3WithBlockSelectKey() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+      AnnotatedMapper mapper = sqlSession.getMapper(AnnotatedMapper.class);
+      for (int i = 0; i < 5; i++) {
+        Name name = new Name();
+        name.setName("barney" + i);
+        mapper.insertTable3WithBlockSelectKey(name);
+        assertEquals(33 + i, name.getNameId());
+      }
+      sqlSession.flushStatements();
+      // three blocks of two keys were fetched
+      assertEquals(39, mapper.selectNextSequenceValue());
+    }
+  }
+
+  @Test
+  void testInsertTable3WithBlockSelectKeyXml() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      AnnotatedMapper mapper = sqlSession.getMapper(AnnotatedMapper.class);
+      for (int i = 0; i < 4; i++) {
+        Name name = new Name();
+        name.setName("barney" + i);
+        assertEquals(1, mapper.insertTable3WithBlockSelectKeyXml(name));
+        assertEquals(33 + i, name.getNameId());
+      }
+      // two blocks of three keys were fetched
+      assertEquals(39, mapper.selectNextSequenceValue());
+    }
+  }
+
   @Test
   void testSeleckKeyWithWrongKeyProperty() {
     try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -319,6 +319,42 @@ class SPTest {
     }
   }
 
+  @Test
+  void testGetNamesAndItemsInParallel() {
+    List<List<?>> expected;
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      expected = sqlSession.getMapper(SPMapper.class).getNamesAndItems();
+    }
+    sqlSessionFactory.getConfiguration().setParallelResultSetMapping(true);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      SPMapper spMapper = sqlSession.getMapper(SPMapper.class);
+      List<List<?>> results = spMapper.getNamesAndItems();
+      assertEquals(2, results.size());
+      assertEquals(expected.get(0).size(), results.get(0).size());
+      for (int i = 0; i < expected.get(0).size(); i++) {
+        Name expectedName = (Name) expected.get(0).get(i);
+        Name name = (Name) results.get(0).get(i);
+        assertEquals(expectedName.getId(), name.getId());
+        assertEquals(expectedName.getFirstName(), name.getFirstName());
+        assertEquals(expectedName.getLastName(), name.getLastName());
+      }
+      assertEquals(expected.get(1).size(), results.get(1).size());
+      for (int i = 0; i < expected.get(1).size(); i++) {
+        Item expectedItem = (Item) expected.get(1).get(i);
+        Item item = (Item) results.get(1).get(i);
+        assertEquals(expectedItem.getId(), item.getId());
+        assertEquals(expectedItem.getItem(), item.getItem());
+      }
+
+      // linked result sets are still mapped one after the other
+      List<Name> names = spMapper.getNamesAndItemsLinked();
+      assertEquals(4, names.size());
+      assertEquals(2, names.get(0).getItems().size());
+    } finally {
+      sqlSessionFactory.getConfiguration().setParallelResultSetMapping(false);
+    }
+  }
+
   /*
    * This test shows how to use input and output parameters in a stored
    * procedure. This procedure does not return a result set.
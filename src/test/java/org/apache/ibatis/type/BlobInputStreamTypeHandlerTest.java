@@ -21,14 +21,18 @@ import static org.mockito.Mockito.when;
 
 import java.io.*;
 import java.sql.Blob;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.sql.DataSource;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -144,10 +148,50 @@ class BlobInputStreamTypeHandlerTest extends BaseTypeHandlerTest {
 
   }
 
+  @Test
+  void shouldFreeBlobsOfActiveLobScope() throws Exception {
+    when(rs.getBlob(1)).thenReturn(blob);
+    LobScope lobScope = new LobScope();
+    LobScope previous = LobScope.enter(lobScope);
+    try {
+      TYPE_HANDLER.getResult(rs, 1);
+    } finally {
+      LobScope.enter(previous);
+    }
+    lobScope.free();
+    verify(blob).free();
+  }
+
+  @Test
+  void shouldStreamContentWithinResultHandler() throws IOException {
+    try (SqlSession session = sqlSessionFactory.openSession()) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      BlobContent blobContent = new BlobContent();
+      blobContent.setId(2);
+      blobContent.setContent(new ByteArrayInputStream("Streamed".getBytes()));
+      mapper.insert(blobContent);
+
+      List<String> contents = new ArrayList<>();
+      mapper.findAll(context -> {
+        try {
+          contents.add(new BufferedReader(new InputStreamReader(context.getResultObject().getContent())).readLine());
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      assertThat(contents).containsExactly("Streamed");
+      session.rollback();
+    }
+  }
+
   interface Mapper {
     @Select("SELECT ID, CONTENT FROM TEST_BLOB WHERE ID = #{id}")
     BlobContent findOne(int id);
 
+    @Select("SELECT ID, CONTENT FROM TEST_BLOB WHERE ID = 2")
+    @ResultType(BlobContent.class)
+    void findAll(ResultHandler<BlobContent> handler);
+
     @Insert("INSERT INTO TEST_BLOB (ID, CONTENT) VALUES(#{id}, #{content})")
     void insert(BlobContent blobContent);
   }
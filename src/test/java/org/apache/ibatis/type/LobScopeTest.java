@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2009-2022 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Blob;
+import java.sql.Clob;
+
+import org.junit.jupiter.api.Test;
+
+class LobScopeTest {
+
+  @Test
+  void shouldFreeRegisteredLobs() throws Exception {
+    Blob blob = mock(Blob.class);
+    Clob clob = mock(Clob.class);
+    LobScope lobScope = new LobScope();
+    LobScope previous = LobScope.enter(lobScope);
+    try {
+      LobScope.register(blob);
+      LobScope.register(clob);
+    } finally {
+      LobScope.enter(previous);
+    }
+    lobScope.free();
+    verify(blob).free();
+    verify(clob).free();
+  }
+
+  @Test
+  void shouldKeepLobsRegisteredAfterMark() throws Exception {
+    Blob completeObjectBlob = mock(Blob.class);
+    Blob nextObjectBlob = mock(Blob.class);
+    LobScope lobScope = new LobScope();
+    LobScope previous = LobScope.enter(lobScope);
+    try {
+      LobScope.register(completeObjectBlob);
+      lobScope.mark();
+      LobScope.register(nextObjectBlob);
+    } finally {
+      LobScope.enter(previous);
+    }
+
+    lobScope.freeMarked();
+    verify(completeObjectBlob).free();
+    verify(nextObjectBlob, never()).free();
+
+    lobScope.freeMarked();
+    verify(nextObjectBlob, never()).free();
+
+    lobScope.mark();
+    lobScope.freeMarked();
+    verify(nextObjectBlob).free();
+  }
+
+  @Test
+  void shouldNotRegisterLobsWithoutActiveScope() throws Exception {
+    Blob blob = mock(Blob.class);
+    LobScope lobScope = new LobScope();
+    LobScope.register(blob);
+    lobScope.free();
+    verify(blob, never()).free();
+  }
+
+}
@@ -221,6 +221,16 @@ class TypeHandlerRegistryTest {
     assertTrue(typeHandlerRegistry.hasTypeHandler(Address.class));
   }
 
+  @Test
+  void shouldResolveAgainAfterRegisteringForJdbcType() {
+    class MyDate extends Date {
+      private static final long serialVersionUID = 1L;
+    }
+    assertEquals(DateTypeHandler.class, typeHandlerRegistry.getTypeHandler(MyDate.class, JdbcType.VARCHAR).getClass());
+    typeHandlerRegistry.register(MyDate.class, JdbcType.VARCHAR, ObjectTypeHandler.class);
+    assertEquals(ObjectTypeHandler.class, typeHandlerRegistry.getTypeHandler(MyDate.class, JdbcType.VARCHAR).getClass());
+  }
+
   enum TestEnum {
     ONE,
     TWO
@@ -19,7 +19,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.UUID;
 
 import org.apache.ibatis.executor.result.ResultMapException;
 import org.apache.ibatis.session.Configuration;
@@ -89,6 +93,39 @@ class UnknownTypeHandlerTest extends BaseTypeHandlerTest {
     verify(ps).setNull(0, JdbcType.INTEGER.TYPE_CODE);
   }
 
+  @Test
+  void shouldResolveParameterTypeHandlerAgainAfterRegistration() throws Exception {
+    TypeHandlerRegistry registry = new Configuration().getTypeHandlerRegistry();
+    TypeHandler<Object> unknownTypeHandler = registry.getUnknownTypeHandler();
+    UUID uuid = UUID.randomUUID();
+    unknownTypeHandler.setParameter(ps, 1, uuid, null);
+    verify(ps).setObject(1, uuid);
+
+    registry.register(UUID.class, new BaseTypeHandler<UUID>() {
+      @Override
+      public void setNonNullParameter(PreparedStatement ps, int i, UUID parameter, JdbcType jdbcType) throws SQLException {
+        ps.setString(i, parameter.toString());
+      }
+
+      @Override
+      public UUID getNullableResult(ResultSet rs, String columnName) {
+        return null;
+      }
+
+      @Override
+      public UUID getNullableResult(ResultSet rs, int columnIndex) {
+        return null;
+      }
+
+      @Override
+      public UUID getNullableResult(CallableStatement cs, int columnIndex) {
+        return null;
+      }
+    });
+    unknownTypeHandler.setParameter(ps, 2, uuid, null);
+    verify(ps).setString(2, uuid.toString());
+  }
+
   @Test
   void setParameterWithNullParameterThrowsException() throws SQLException {
     doThrow(new SQLException("invalid column")).when(ps).setNull(1, JdbcType.INTEGER.TYPE_CODE);